@@ -0,0 +1,166 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cold-boot comparison of the backend with and without the fast-startup build.
+ *
+ * Usage (Java 11+, run from backend/ after mvn package -Pfast-startup):
+ *   java scripts/StartupBenchmark.java [runs=3] [port=18080] [-- app arguments...]
+ *
+ * Every run starts a fresh JVM and measures, from process launch, the time until the first
+ * HTTP request succeeds (time-to-first-request) and the app's own startup.ready-ms log line.
+ * Modes, all with the same app arguments:
+ *   war      java -jar target/auth-backend.war (what is deployed today)
+ *   aot      the exploded WAR in target/cds with -Dspring.aot.enabled=true
+ *   aot+cds  the same plus -XX:SharedArchiveFile=app.jsa
+ * Unless the arguments set spring.profiles.active, "prod" is used, matching the profile the
+ * AOT classes were generated for. Prints the median and min of each mode.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern READY = Pattern.compile("startup\\.ready-ms=(\\d+)");
+    private static final String PROBE_PATH = "/api/papers/test";
+    private static final long TIMEOUT_SECONDS = 180;
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        String[] own = separator < 0 ? args : Arrays.copyOfRange(args, 0, separator);
+        List<String> appArgs = separator < 0 ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(args).subList(separator + 1, args.length));
+        int runs = own.length > 0 ? Integer.parseInt(own[0]) : 3;
+        int port = own.length > 1 ? Integer.parseInt(own[1]) : 18080;
+
+        File war = new File("target/auth-backend.war");
+        File cdsDir = new File("target/cds");
+        if (!war.isFile() || !new File(cdsDir, "app.jsa").isFile()) {
+            System.err.println("Build first: mvn package -Pfast-startup (expects " + war + " and " + cdsDir + "/app.jsa)");
+            System.exit(1);
+        }
+        if (appArgs.stream().noneMatch(arg -> arg.startsWith("--spring.profiles.active"))) {
+            appArgs.add("--spring.profiles.active=prod");
+        }
+        appArgs.add("--server.port=" + port);
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> exploded = List.of("@classpath.args", "com.example.auth.AuthBackendApplication");
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("war", concat(List.of(java, "-jar", war.getAbsolutePath()), appArgs));
+        modes.put("aot", concat(concat(List.of(java, "-Dspring.aot.enabled=true"), exploded), appArgs));
+        modes.put("aot+cds", concat(concat(List.of(java, "-XX:SharedArchiveFile=app.jsa", "-Xshare:auto",
+                "-Dspring.aot.enabled=true"), exploded), appArgs));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE_PATH))
+                .timeout(Duration.ofSeconds(5)).GET().build();
+
+        Map<String, long[][]> results = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            File workDir = mode.getKey().equals("war") ? new File(".") : cdsDir;
+            long[][] samples = new long[runs][];
+            for (int i = 0; i < runs; i++) {
+                samples[i] = boot(mode.getValue(), workDir, client, probe);
+                System.out.printf("%-8s run %d: first request %d ms, ready %d ms%n",
+                        mode.getKey(), i + 1, samples[i][0], samples[i][1]);
+            }
+            results.put(mode.getKey(), samples);
+        }
+
+        System.out.printf("%nruns=%d probe=%s%n", runs, PROBE_PATH);
+        System.out.printf("%-8s %22s %22s%n", "mode", "first request med/min", "ready med/min");
+        for (Map.Entry<String, long[][]> result : results.entrySet()) {
+            List<Long> first = new ArrayList<>();
+            List<Long> ready = new ArrayList<>();
+            for (long[] sample : result.getValue()) {
+                first.add(sample[0]);
+                ready.add(sample[1]);
+            }
+            System.out.printf("%-8s %14d / %5d ms %14d / %5d ms%n", result.getKey(),
+                    median(first), Collections.min(first), median(ready), Collections.min(ready));
+        }
+        System.exit(0);
+    }
+
+    /**
+     * @return {ms until the first successful request, ms until startup.ready-ms was logged (-1 if never)}
+     */
+    private static long[] boot(List<String> command, File workDir, HttpClient client, HttpRequest probe)
+            throws Exception {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(workDir).redirectErrorStream(true).start();
+        long[] readyMs = {-1};
+        Thread reader = new Thread(() -> {
+            try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while ((line = out.readLine()) != null) {
+                    Matcher matcher = READY.matcher(line);
+                    if (matcher.find()) {
+                        readyMs[0] = Long.parseLong(matcher.group(1));
+                    }
+                }
+            } catch (Exception ignored) {
+                // process was stopped
+            }
+        });
+        reader.start();
+
+        long deadline = start + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        long firstRequestMs = -1;
+        while (System.nanoTime() < deadline && process.isAlive()) {
+            try {
+                HttpResponse<Void> response = client.send(probe, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() < 400) {
+                    firstRequestMs = (System.nanoTime() - start) / 1_000_000;
+                    break;
+                }
+            } catch (Exception e) {
+                // not listening yet
+            }
+            Thread.sleep(20);
+        }
+        if (firstRequestMs < 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException("No successful request within " + TIMEOUT_SECONDS + " s: " + command);
+        }
+
+        // Ready may be logged just after the first request is served
+        long readyDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (readyMs[0] < 0 && process.isAlive() && System.nanoTime() < readyDeadline) {
+            Thread.sleep(20);
+        }
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        reader.join();
+        return new long[] {firstRequestMs, readyMs[0]};
+    }
+
+    private static List<String> concat(List<String> a, List<String> b) {
+        List<String> all = new ArrayList<>(a);
+        all.addAll(b);
+        return all;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
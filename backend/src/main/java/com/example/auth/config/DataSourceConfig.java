@@ -0,0 +1,72 @@
+package com.example.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Separate connection pools per workload (OLTP, short reads, exports), tuned through
+ * app.datasource.<workload>.* properties. All pools use the spring.datasource.* database
+ * unless a pool overrides jdbc-url, username and password, which is how the read pool is
+ * pointed at a replica (see the replica-local profile in application.properties).
+ *
+ * The primary DataSource routes each connection request to a pool by WorkloadContext,
+ * so a slow export can only ever exhaust the export pool and never starves logins.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource.oltp")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        return createPool(properties, "oltp-pool");
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.read")
+    public HikariDataSource readDataSource(DataSourceProperties properties) {
+        return createPool(properties, "read-pool");
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.export")
+    public HikariDataSource exportDataSource(DataSourceProperties properties) {
+        return createPool(properties, "export-pool");
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("oltpDataSource") DataSource oltp,
+                                 @Qualifier("readDataSource") DataSource read,
+                                 @Qualifier("exportDataSource") DataSource export) {
+        Map<Object, Object> pools = new HashMap<>();
+        pools.put(Workload.OLTP, oltp);
+        pools.put(Workload.READ, read);
+        pools.put(Workload.EXPORT, export);
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(pools);
+        routing.setDefaultTargetDataSource(oltp);
+        routing.afterPropertiesSet();
+
+        // Defer the pool choice until the first statement, after @UseWorkload has been applied
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
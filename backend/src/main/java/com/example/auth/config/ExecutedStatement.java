@@ -0,0 +1,112 @@
+package com.example.auth.config;
+
+import com.example.auth.config.StatementObservingDataSource.NullParameter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * One statement run through the StatementObservingDataSource, as passed to StatementListeners.
+ *
+ * For updates the row count is known when listeners are called. For queries it is the number of
+ * rows the caller has read so far, and only if a listener asked for it with countRows() while
+ * being notified; the ResultSet is then wrapped to count next() calls.
+ */
+public final class ExecutedStatement {
+
+    private final String sql;
+    private final List<Object> parameters;
+    private final long elapsedNanos;
+    private final boolean failed;
+    private volatile long rows;
+    private volatile boolean countingRows;
+
+    ExecutedStatement(String sql, List<Object> parameters, long elapsedNanos, long rows, boolean failed) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.elapsedNanos = elapsedNanos;
+        this.rows = rows;
+        this.failed = failed;
+    }
+
+    /**
+     * The SQL as prepared, with ? placeholders
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Bind values by position (index 0 = parameter 1); empty for plain statements
+     */
+    public List<Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Time spent in the execute call
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Whether the execute call threw
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Rows affected by an update, or rows read from a query's ResultSet when counted; -1 if unknown
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Ask for the rows read from this query's ResultSet to be counted (ignored for updates)
+     */
+    public void countRows() {
+        if (rows < 0 && !failed) {
+            rows = 0;
+            countingRows = true;
+        }
+    }
+
+    boolean isCountingRows() {
+        return countingRows;
+    }
+
+    // Only the thread reading the ResultSet writes, so the volatile increment does not race
+    void rowRead() {
+        rows++;
+    }
+
+    /**
+     * Types of the bind values, e.g. "(String, Long, null)"
+     */
+    public String getBindShape() {
+        StringJoiner shape = new StringJoiner(", ", "(", ")");
+        for (Object value : parameters) {
+            shape.add(value == null || value instanceof NullParameter ? "null" : value.getClass().getSimpleName());
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Apply this statement's bind values to another statement, e.g. an EXPLAIN of the same SQL
+     */
+    public void bindTo(PreparedStatement target) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            Object value = parameters.get(i);
+            if (value instanceof NullParameter nullParameter) {
+                target.setNull(i + 1, nullParameter.sqlType());
+            } else {
+                target.setObject(i + 1, value);
+            }
+        }
+    }
+}
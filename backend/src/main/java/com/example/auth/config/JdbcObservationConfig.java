@@ -0,0 +1,40 @@
+package com.example.auth.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the primary DataSource in a StatementObservingDataSource when at least one
+ * StatementListener bean is defined; with none, the DataSource is left untouched and
+ * statements pay nothing.
+ */
+@Configuration
+public class JdbcObservationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcObservationConfig.class);
+
+    @Bean
+    public static BeanPostProcessor statementObservation(ListableBeanFactory beanFactory,
+                                                         ObjectProvider<StatementListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    String[] listenerNames = beanFactory.getBeanNamesForType(StatementListener.class, false, false);
+                    if (listenerNames.length > 0) {
+                        logger.info("Observing statements on DataSource '{}' for {}", beanName, String.join(", ", listenerNames));
+                        return new StatementObservingDataSource(dataSource, () -> listeners.orderedStream().toList());
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.auth.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The application's password encoder: a DelegatingPasswordEncoder that stores new hashes as
+ * "{id}hash" with the configured algorithm and still verifies every supported one, including
+ * the unprefixed BCrypt hashes written before it existed.
+ *
+ * The BCrypt cost is calibrated at startup to the largest strength whose hash takes no longer
+ * than app.password.target-verify-ms on this machine, unless app.password.bcrypt.strength fixes
+ * it. AuthService rehashes a password on successful login whenever upgradeEncoding reports the
+ * stored hash uses another algorithm or a lower BCrypt strength.
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    // OWASP minimum for BCrypt, and BCrypt's own maximum
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+
+    // Strength timed during calibration; each step up doubles the work
+    private static final int CALIBRATION_STRENGTH = 8;
+    private static final int CALIBRATION_RUNS = 3;
+
+    @Value("${app.password.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${app.password.target-verify-ms:250}")
+    private long targetVerifyMs;
+
+    // 0 = calibrate
+    @Value("${app.password.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        int strength = bcryptStrength > 0 ? bcryptStrength : calibrateBcryptStrength();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("Unknown app.password.algorithm '" + algorithm
+                    + "', expected one of " + encoders.keySet());
+        }
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        logger.info("Password encoder: {} for new hashes, BCrypt strength {}{}", algorithm, strength,
+                   bcryptStrength > 0 ? " (configured)" : " (calibrated to " + targetVerifyMs + " ms)");
+        return encoder;
+    }
+
+    /**
+     * Time a few hashes at a low strength and extrapolate, since every extra strength doubles
+     * the cost; the fastest run is used so a GC pause or cold JIT does not lower the result
+     */
+    private int calibrateBcryptStrength() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration"); // warm up
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        double millis = bestNanos / 1_000_000.0;
+        int strength = CALIBRATION_STRENGTH;
+        while (strength < MAX_BCRYPT_STRENGTH && millis * 2 <= targetVerifyMs) {
+            millis *= 2;
+            strength++;
+        }
+        if (strength < MIN_BCRYPT_STRENGTH) {
+            logger.warn("BCrypt strength {} would meet the {} ms target; using the minimum {} instead",
+                       strength, targetVerifyMs, MIN_BCRYPT_STRENGTH);
+            strength = MIN_BCRYPT_STRENGTH;
+        }
+        logger.debug("BCrypt strength {} estimated at {} ms per hash", strength, Math.round(millis));
+        return strength;
+    }
+}
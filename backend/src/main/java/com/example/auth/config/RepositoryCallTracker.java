@@ -0,0 +1,61 @@
+package com.example.auth.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which repository method the current thread is in (e.g. "PaperRepository.findSummaryRows"),
+ * so statements seen by the slow-query log and the index advisor can be traced back to the query
+ * method that issued them. Costs one ThreadLocal set and restore per repository call, so it is
+ * only registered while one of them is enabled.
+ */
+@Aspect
+@Component
+@ConditionalOnExpression("${app.slow-query.enabled:false} or ${app.index-advisor.enabled:false}")
+public class RepositoryCallTracker {
+
+    private static final String REPOSITORY_PACKAGE = "com.example.auth.repository.";
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    /**
+     * The innermost repository method running on this thread, or null outside one
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = CURRENT.get();
+        CURRENT.set(repositoryName(joinPoint.getThis().getClass()) + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    // Inherited methods such as findById are declared on CrudRepository; name the app's interface instead
+    private String repositoryName(Class<?> proxyClass) {
+        return repositoryNames.computeIfAbsent(proxyClass, type -> {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getName().startsWith(REPOSITORY_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.auth.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (write-behind flushers, pollers, retention jobs)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
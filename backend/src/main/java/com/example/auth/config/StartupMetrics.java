@@ -0,0 +1,51 @@
+package com.example.auth.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup timings measured from JVM start: when the application reported ready, and when the
+ * first HTTP request finished (time-to-first-request, which includes any lazy beans that
+ * request had to create). Both are logged once as "startup.ready-ms" and
+ * "startup.first-request-ms"; after the first request the filter only reads a flag.
+ */
+@Component
+public class StartupMetrics extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupMetrics.class);
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void applicationReady() {
+        logger.info("startup.ready-ms={}", System.currentTimeMillis() - jvmStartMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (firstRequestSeen.get() || !firstRequestSeen.compareAndSet(false, true)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            logger.info("startup.first-request-ms={} ({} {})", System.currentTimeMillis() - jvmStartMillis,
+                       request.getMethod(), request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.auth.config;
+
+/**
+ * Notified of every JDBC statement run through the primary DataSource (see JdbcObservationConfig).
+ * Called on the executing thread right after the statement returns or fails, so it must be cheap
+ * and must not throw.
+ */
+public interface StatementListener {
+
+    void statementExecuted(ExecutedStatement statement);
+}
@@ -0,0 +1,186 @@
+package com.example.auth.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * DataSource wrapper that reports each executed statement, with its bind values and duration,
+ * to the StatementListeners.
+ *
+ * Connections and statements are JDK proxies: prepared statements remember the values passed
+ * to their setXxx(index, value) methods, and every execute call is timed. A query's ResultSet is
+ * wrapped only when a listener asks for its rows to be counted. Listeners are looked up on first
+ * use, so they may themselves depend on this DataSource.
+ */
+public class StatementObservingDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementObservingDataSource.class);
+
+    /**
+     * Bind value recorded for setNull, which carries only the SQL type
+     */
+    public record NullParameter(int sqlType) {
+    }
+
+    private final Supplier<List<StatementListener>> listenerLookup;
+    private volatile List<StatementListener> listeners;
+
+    public StatementObservingDataSource(DataSource target, Supplier<List<StatementListener>> listenerLookup) {
+        super(target);
+        this.listenerLookup = listenerLookup;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return observing(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return observing(super.getConnection(username, password));
+    }
+
+    private Connection observing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                String name = method.getName();
+                if (result instanceof PreparedStatement statement
+                        && (name.equals("prepareStatement") || name.equals("prepareCall"))) {
+                    return observing(statement, (String) args[0]);
+                }
+                if (result instanceof Statement statement && name.equals("createStatement")) {
+                    return observing(statement);
+                }
+                return result;
+            });
+    }
+
+    private PreparedStatement observing(PreparedStatement statement, String sql) {
+        List<Object> parameters = new ArrayList<>();
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class : PreparedStatement.class;
+        return (PreparedStatement) Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[]{type},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    bind(parameters, index, name.equals("setNull") ? new NullParameter((Integer) args[1]) : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.startsWith("execute")) {
+                    // execute(String) and friends on a PreparedStatement run that SQL, not the prepared one
+                    boolean own = args == null || args.length == 0;
+                    return timed(statement, method, args, own ? sql : (String) args[0],
+                                 own ? parameters : Collections.emptyList());
+                }
+                return invoke(statement, method, args);
+            });
+    }
+
+    private Statement observing(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(
+            Statement.class.getClassLoader(),
+            new Class<?>[]{Statement.class},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("execute") && args != null && args.length > 0
+                        && args[0] instanceof String sql) {
+                    return timed(statement, method, args, sql, Collections.emptyList());
+                }
+                return invoke(statement, method, args);
+            });
+    }
+
+    private Object timed(Statement statement, Method method, Object[] args, String sql, List<Object> parameters)
+            throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invoke(statement, method, args);
+        } catch (Throwable e) {
+            notifyListeners(sql, parameters, System.nanoTime() - start, -1, true);
+            throw e;
+        }
+        ExecutedStatement executed = notifyListeners(sql, parameters, System.nanoTime() - start, rowsAffected(result), false);
+        if (executed != null && executed.isCountingRows() && result instanceof ResultSet resultSet) {
+            return counting(resultSet, executed);
+        }
+        return result;
+    }
+
+    private ExecutedStatement notifyListeners(String sql, List<Object> parameters, long elapsedNanos, long rows,
+                                              boolean failed) {
+        List<StatementListener> current = listeners;
+        if (current == null) {
+            current = listeners = listenerLookup.get();
+        }
+        if (current.isEmpty()) return null;
+        List<Object> snapshot = parameters.isEmpty() ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(parameters));
+        ExecutedStatement executed = new ExecutedStatement(sql, snapshot, elapsedNanos, rows, failed);
+        for (StatementListener listener : current) {
+            try {
+                listener.statementExecuted(executed);
+            } catch (RuntimeException e) {
+                logger.debug("Statement listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        return executed;
+    }
+
+    private static ResultSet counting(ResultSet resultSet, ExecutedStatement executed) {
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class},
+            (proxy, method, args) -> {
+                Object result = invoke(resultSet, method, args);
+                if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                    executed.rowRead();
+                }
+                return result;
+            });
+    }
+
+    // executeUpdate and executeBatch return counts; execute and executeQuery leave it unknown
+    private static long rowsAffected(Object result) {
+        if (result instanceof Integer count) return count;
+        if (result instanceof Long count) return count;
+        if (result instanceof int[] counts) return Arrays.stream(counts).filter(count -> count >= 0).asLongStream().sum();
+        if (result instanceof long[] counts) return Arrays.stream(counts).filter(count -> count >= 0).sum();
+        return -1;
+    }
+
+    private static void bind(List<Object> parameters, int index, Object value) {
+        while (parameters.size() < index) {
+            parameters.add(null);
+        }
+        parameters.set(index - 1, value);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
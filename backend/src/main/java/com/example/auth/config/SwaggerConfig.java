@@ -7,9 +7,12 @@ import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import java.util.List;
 
+// The API docs are built on the first /v3/api-docs request, not at startup
+@Lazy
 @Configuration
 public class SwaggerConfig {
 
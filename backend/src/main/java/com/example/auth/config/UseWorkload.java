@@ -0,0 +1,16 @@
+package com.example.auth.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Route the database work of a service method (or every method of a service) to the
+ * connection pool of the given workload. Unannotated code uses the OLTP pool.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseWorkload {
+    Workload value();
+}
@@ -0,0 +1,49 @@
+package com.example.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Virtual-thread execution mode, enabled with spring.threads.virtual.enabled=true.
+ *
+ * On Java 21+ Spring Boot then runs Tomcat request handling, the application task executor
+ * and the @Scheduled scheduler on virtual threads. Because nothing bounds request concurrency
+ * any more, every Hikari pool is wrapped in a ConcurrencyLimitedDataSource sized to that pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // Hikari reports -1 until the pool validates its config, then applies this default
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+        long acquireTimeoutMs = environment.getProperty("app.db.concurrency-limit.acquire-timeout-ms", Long.class, 30000L);
+
+        if (Runtime.version().feature() < 21) {
+            logger.warn("spring.threads.virtual.enabled=true but running on Java {}; requests stay on platform threads",
+                       Runtime.version().feature());
+        }
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int permits = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                    logger.info("Capping concurrent use of DataSource '{}' at {} connections", beanName, permits);
+                    return new ConcurrencyLimitedDataSource(hikari, permits, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
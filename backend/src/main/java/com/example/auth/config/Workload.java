@@ -0,0 +1,13 @@
+package com.example.auth.config;
+
+/**
+ * Database workloads, each served by its own connection pool
+ */
+public enum Workload {
+    /** Transactional writes and logins: small, latency-sensitive, must never queue behind reads */
+    OLTP,
+    /** Short read-only queries behind listing and search endpoints */
+    READ,
+    /** Long-running streaming and export queries */
+    EXPORT
+}
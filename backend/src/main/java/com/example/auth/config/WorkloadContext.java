@@ -0,0 +1,44 @@
+package com.example.auth.config;
+
+/**
+ * Holds the workload of the current thread for WorkloadRoutingDataSource
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * The workload selected with @UseWorkload or for a read-only service transaction, or OLTP when none was
+     */
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.OLTP;
+    }
+
+    /**
+     * Whether a workload was selected for this thread, as opposed to the OLTP default
+     */
+    public static boolean isSelected() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Set the workload and return the previous value, to be passed to restore()
+     */
+    public static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
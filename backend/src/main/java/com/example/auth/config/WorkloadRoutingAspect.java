@@ -0,0 +1,69 @@
+package com.example.auth.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Applies @UseWorkload before any transaction advice so the whole unit of work
+ * runs on the selected pool. Application methods marked @Transactional(readOnly = true)
+ * that start their own transaction run on the READ pool unless a workload is already set.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadRoutingAspect {
+
+    @Around("@within(com.example.auth.config.UseWorkload) || @annotation(com.example.auth.config.UseWorkload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        UseWorkload annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), UseWorkload.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), UseWorkload.class);
+        }
+
+        Workload previous = WorkloadContext.enter(annotation.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    // Spring Data repositories are read-only transactional at class level; they are excluded so a
+    // lookup outside a service transaction (login, signup checks) still reads the primary
+    @Around("(@annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional))"
+            + " && within(com.example.auth..*)"
+            + " && !execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object routeReadOnly(ProceedingJoinPoint joinPoint) throws Throwable {
+        // A method joining an outer transaction shares its connection, which may already be the primary
+        if (WorkloadContext.isSelected() || TransactionSynchronizationManager.isActualTransactionActive()
+                || !isReadOnly(joinPoint)) {
+            return joinPoint.proceed();
+        }
+
+        Workload previous = WorkloadContext.enter(Workload.READ);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private static boolean isReadOnly(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Transactional.class);
+        }
+        return transactional != null && transactional.readOnly();
+    }
+}
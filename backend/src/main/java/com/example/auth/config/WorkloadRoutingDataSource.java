@@ -0,0 +1,19 @@
+package com.example.auth.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Picks the connection pool for the current thread from WorkloadContext: the workload set by
+ * @UseWorkload or, for read-only service transactions, READ (see WorkloadRoutingAspect);
+ * everything else, including repository calls outside a service transaction, uses OLTP.
+ *
+ * Wrapped in a LazyConnectionDataSourceProxy so the pool is chosen at the first
+ * statement, after @UseWorkload and transaction setup have run.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.auth.controller;
 
+import com.example.auth.dto.AvailabilityResponse;
 import com.example.auth.dto.LoginRequest;
 import com.example.auth.dto.MessageResponse;
 import com.example.auth.dto.SignupRequest;
 import com.example.auth.payload.response.JwtResponse;
 import com.example.auth.entity.User;
 import com.example.auth.service.AuthService;
+import com.example.auth.service.LoginThrottle;
+import com.example.auth.service.PrincipalCache;
+import com.example.auth.service.SignupResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +17,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,6 +38,12 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
     @PostMapping("/signup")
     @Operation(
         summary = "Register a new user",
@@ -55,28 +68,25 @@ public class AuthController {
         logger.info("Registration attempt for username: {}, email: {}, role: {}", 
                    signupRequest.getUsername(), signupRequest.getEmail(), signupRequest.getRole());
         
-        if (authService.isUsernameExists(signupRequest.getUsername())) {
-            logger.warn("Registration failed: Username '{}' already exists", signupRequest.getUsername());
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse("Error: Username is already taken!"));
-        }
-
-        if (authService.isEmailExists(signupRequest.getEmail())) {
-            logger.warn("Registration failed: Email '{}' already exists", signupRequest.getEmail());
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse("Error: Email is already in use!"));
-        }
-
         try {
-            boolean success = authService.signup(signupRequest);
-            
-            if (success) {
-                logger.info("User registration successful for username: {}", signupRequest.getUsername());
-                return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
-            } else {
-                logger.error("User registration failed for username: {}", signupRequest.getUsername());
-                return ResponseEntity.badRequest()
-                        .body(new MessageResponse("Error: Failed to register user!"));
+            SignupResult result = authService.signup(signupRequest);
+
+            switch (result) {
+                case CREATED:
+                    logger.info("User registration successful for username: {}", signupRequest.getUsername());
+                    return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
+                case USERNAME_TAKEN:
+                    logger.warn("Registration failed: Username '{}' already exists", signupRequest.getUsername());
+                    return ResponseEntity.badRequest()
+                            .body(new MessageResponse("Error: Username is already taken!"));
+                case EMAIL_TAKEN:
+                    logger.warn("Registration failed: Email '{}' already exists", signupRequest.getEmail());
+                    return ResponseEntity.badRequest()
+                            .body(new MessageResponse("Error: Email is already in use!"));
+                default:
+                    logger.error("User registration failed for username: {} ({})", signupRequest.getUsername(), result);
+                    return ResponseEntity.badRequest()
+                            .body(new MessageResponse("Error: Failed to register user!"));
             }
         } catch (Exception e) {
             logger.error("Unexpected error during registration for username: {}, error: {}", 
@@ -86,6 +96,28 @@ public class AuthController {
         }
     }
 
+    @GetMapping("/availability")
+    @Operation(
+        summary = "Check signup availability",
+        description = "Whether a username and/or email is still free; most free values are answered without a database query"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Availability checked",
+            content = @Content(schema = @Schema(implementation = AvailabilityResponse.class))
+        )
+    })
+    public ResponseEntity<AvailabilityResponse> checkAvailability(
+            @Parameter(description = "Username to check", required = false)
+            @RequestParam(required = false) String username,
+            @Parameter(description = "Email to check", required = false)
+            @RequestParam(required = false) String email) {
+        Boolean usernameAvailable = username != null ? !authService.isUsernameExists(username) : null;
+        Boolean emailAvailable = email != null ? !authService.isEmailExists(email) : null;
+        return ResponseEntity.ok(new AvailabilityResponse(usernameAvailable, emailAvailable));
+    }
+
     @PostMapping("/login")
     @Operation(
         summary = "Authenticate user",
@@ -101,13 +133,26 @@ public class AuthController {
             responseCode = "400",
             description = "Invalid credentials",
             content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Too many login attempts for this username or client; see the Retry-After header",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
         )
     })
     public ResponseEntity<?> authenticateUser(
             @Parameter(description = "User login credentials", required = true)
-            @Valid @RequestBody LoginRequest loginRequest) {
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request) {
         
         logger.info("Login attempt for username: {}", loginRequest.getUsername());
+
+        long retryAfterSeconds = loginThrottle.tryAcquire(loginRequest.getUsername(), request.getRemoteAddr());
+        if (retryAfterSeconds > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                    .body(new MessageResponse("Error: Too many login attempts, try again in " + retryAfterSeconds + " seconds"));
+        }
         
         try {
             // Additional validation
@@ -126,9 +171,11 @@ public class AuthController {
             User user = authService.authenticateAndGetUser(loginRequest);
             
             if (user != null) {
+                loginThrottle.loginSucceeded(loginRequest.getUsername());
                 String roleName = user.getRole() != null ? user.getRole().getName().name() : "USER";
                 logger.info("Login successful for username: {}, role: {}", user.getUsername(), roleName);
-                JwtResponse response = new JwtResponse("dummy-token", user.getUsername(), user.getEmail(), roleName);
+                String token = principalCache.createSession(user);
+                JwtResponse response = new JwtResponse(token, user.getUsername(), user.getEmail(), roleName);
                 return ResponseEntity.ok(response);
             } else {
                 logger.warn("Login failed: Invalid credentials for username: {}", loginRequest.getUsername());
@@ -142,4 +189,24 @@ public class AuthController {
                     .body(new MessageResponse("Error: " + e.getMessage()));
         }
     }
+
+    @PostMapping("/logout")
+    @Operation(
+        summary = "Log out",
+        description = "Revoke the session token from the login response"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Session revoked (or already expired)",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        )
+    })
+    public ResponseEntity<MessageResponse> logout(
+            @Parameter(description = "Bearer token from the login response", required = false)
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        boolean revoked = principalCache.revoke(authorization);
+        logger.info("Logout request, session revoked: {}", revoked);
+        return ResponseEntity.ok(new MessageResponse("Logged out successfully!"));
+    }
 }
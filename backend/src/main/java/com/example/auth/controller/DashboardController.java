@@ -0,0 +1,103 @@
+package com.example.auth.controller;
+
+import com.example.auth.dto.AuthorDashboardResponse;
+import com.example.auth.dto.CommitteeDashboardResponse;
+import com.example.auth.dto.MessageResponse;
+import com.example.auth.dto.StudentDashboardResponse;
+import com.example.auth.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Dashboards", description = "One call per role with everything its dashboard shows")
+public class DashboardController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @GetMapping("/author/{username}")
+    @Operation(
+        summary = "Author dashboard",
+        description = "The author's papers with tags and published/draft counts"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Dashboard retrieved successfully",
+            content = @Content(schema = @Schema(implementation = AuthorDashboardResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown user or not an author",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        )
+    })
+    public ResponseEntity<?> getAuthorDashboard(
+            @Parameter(description = "Author username", required = true)
+            @PathVariable String username) {
+        try {
+            return ResponseEntity.ok(dashboardService.getAuthorDashboard(username));
+        } catch (RuntimeException e) {
+            logger.warn("Author dashboard for '{}' failed: {}", username, e.getMessage());
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/committee/{username}")
+    @Operation(
+        summary = "Committee dashboard",
+        description = "Pending and all papers with tags, plus how many papers this member has published"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Dashboard retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CommitteeDashboardResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown user or not a committee member",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        )
+    })
+    public ResponseEntity<?> getCommitteeDashboard(
+            @Parameter(description = "Committee member username", required = true)
+            @PathVariable String username) {
+        try {
+            return ResponseEntity.ok(dashboardService.getCommitteeDashboard(username));
+        } catch (RuntimeException e) {
+            logger.warn("Committee dashboard for '{}' failed: {}", username, e.getMessage());
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/student")
+    @Operation(
+        summary = "Student dashboard",
+        description = "All papers with tags and publication counts"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Dashboard retrieved successfully",
+            content = @Content(schema = @Schema(implementation = StudentDashboardResponse.class))
+        )
+    })
+    public ResponseEntity<StudentDashboardResponse> getStudentDashboard() {
+        return ResponseEntity.ok(dashboardService.getStudentDashboard());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.auth.controller;
+
+import com.example.auth.dto.DocumentListing;
+import com.example.auth.service.DocumentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+@RequestMapping("/api/documents")
+@Tag(name = "Documents", description = "Document listing APIs")
+public class DocumentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentController.class);
+
+    @Autowired
+    private DocumentService documentService;
+
+    @GetMapping("")
+    @Operation(
+        summary = "List documents",
+        description = "List all documents with precomputed word count, summary and reading time"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Listings retrieved successfully",
+            content = @Content(schema = @Schema(implementation = DocumentListing.class))
+        )
+    })
+    public ResponseEntity<List<DocumentListing>> getListings() {
+        return ResponseEntity.ok(documentService.getListings());
+    }
+
+    @GetMapping("/published")
+    public ResponseEntity<List<DocumentListing>> getPublishedListings() {
+        return ResponseEntity.ok(documentService.getPublishedListings());
+    }
+
+    @GetMapping("/keywords")
+    @Operation(
+        summary = "Find documents by keyword",
+        description = "Research papers and policy documents tagged with all given keywords"
+    )
+    public ResponseEntity<List<DocumentListing>> findByKeywords(
+            @Parameter(description = "Keywords (all must match)", required = true)
+            @RequestParam List<String> keyword) {
+        
+        logger.info("Keyword lookup request for: {}", keyword);
+        return ResponseEntity.ok(documentService.findByKeywords(keyword));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+        summary = "View a document",
+        description = "Return a document listing and count a view for it"
+    )
+    public ResponseEntity<DocumentListing> viewDocument(
+            @Parameter(description = "Document ID", required = true)
+            @PathVariable Long id) {
+        
+        logger.info("View document request for ID: {}", id);
+        
+        Optional<DocumentListing> listing = documentService.viewDocument(id);
+        if (listing.isPresent()) {
+            return ResponseEntity.ok(listing.get());
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
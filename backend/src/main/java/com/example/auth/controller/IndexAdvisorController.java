@@ -0,0 +1,76 @@
+package com.example.auth.controller;
+
+import com.example.auth.dto.IndexAdvisorReport;
+import com.example.auth.dto.MessageResponse;
+import com.example.auth.service.IndexAdvisor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+@RequestMapping("/api/dev/index-advisor")
+@Profile("dev")
+@ConditionalOnProperty(name = "app.index-advisor.enabled", havingValue = "true")
+@Tag(name = "Index Advisor", description = "Dev profile: full table scans in captured queries and suggested indexes")
+public class IndexAdvisorController {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexAdvisorController.class);
+
+    @Autowired
+    private IndexAdvisor indexAdvisor;
+
+    @GetMapping
+    @Operation(
+        summary = "Index advisor report",
+        description = "EXPLAINs every statement captured since startup (or the last reset) with its last bind values " +
+                      "and lists full scans of tables above app.index-advisor.min-rows, with a suggested index"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Report generated successfully",
+            content = @Content(schema = @Schema(implementation = IndexAdvisorReport.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Query plans could not be read",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        )
+    })
+    public ResponseEntity<?> getReport() {
+        try {
+            return ResponseEntity.ok(indexAdvisor.analyze());
+        } catch (RuntimeException e) {
+            logger.error("Index advisor report failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+
+    @DeleteMapping
+    @Operation(
+        summary = "Reset captured statements",
+        description = "Forgets the captured statements so the next report covers only what runs from now on"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Captured statements cleared",
+        content = @Content(schema = @Schema(implementation = MessageResponse.class))
+    )
+    public ResponseEntity<MessageResponse> reset() {
+        indexAdvisor.clear();
+        return ResponseEntity.ok(new MessageResponse("Captured statements cleared"));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.auth.entity.inheritance.*;
 import com.example.auth.interfaces.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,6 +16,7 @@ import java.util.List;
  * Controller to demonstrate all types of inheritance implemented in the project
  * This provides REST endpoints to showcase inheritance patterns
  */
+@Lazy
 @RestController
 @RequestMapping("/api/inheritance")
 @Tag(name = "Inheritance Demonstration", description = "Endpoints demonstrating all types of inheritance")
@@ -488,7 +490,6 @@ public class InheritanceDemoController {
             
             2️⃣ INTERFACE IMPLEMENTATION (Configuration):
             📁 WebConfig implements WebMvcConfigurer
-            📁 DataInitializer implements CommandLineRunner
             📁 DataInitializationService implements CommandLineRunner
             
             Benefits:
@@ -2,7 +2,9 @@ package com.example.auth.controller;
 
 import com.example.auth.entity.inheritance.strategy.*;
 import com.example.auth.repository.*;
+import com.example.auth.service.AdminAccessLogService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +20,7 @@ import java.util.Map;
  * 
  * Each strategy has different database schema implications and performance characteristics.
  */
+@Lazy
 @RestController
 @RequestMapping("/api/inheritance/jpa-strategies")
 @CrossOrigin(origins = "http://localhost:4200", maxAge = 3600)
@@ -38,6 +41,9 @@ public class JpaInheritanceDemoController {
     @Autowired
     private TablePerClassAdminRepository tpcAdminRepository;
 
+    @Autowired
+    private AdminAccessLogService accessLogService;
+
     /**
      * GET /api/inheritance/jpa-strategies/overview
      * Comprehensive overview of all JPA inheritance strategies
@@ -258,7 +264,8 @@ public class JpaInheritanceDemoController {
                 ),
                 "admin", Map.of(
                     "entity", admin.getJoinedTableInfo(),
-                    "dataDistribution", "Common fields in joined_persons, admin fields in joined_admins"
+                    "dataDistribution", "Common fields in joined_persons, admin fields in joined_admins",
+                    "recentAccess", accessLogService.getRecentEntries(admin)
                 )
             ),
             "queryExamples", Map.of(
@@ -372,7 +379,8 @@ public class JpaInheritanceDemoController {
                 ),
                 "admin", Map.of(
                     "entity", admin.getTablePerClassInfo(),
-                    "storagePattern", "All data in single table_per_class_admins table"
+                    "storagePattern", "All data in single table_per_class_admins table",
+                    "recentAccess", accessLogService.getRecentEntries(admin)
                 )
             ),
             "queryExamples", Map.of(
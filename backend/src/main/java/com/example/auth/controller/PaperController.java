@@ -2,9 +2,14 @@ package com.example.auth.controller;
 
 import com.example.auth.dto.MessageResponse;
 import com.example.auth.dto.PaperRequest;
+import com.example.auth.dto.SuggestionResponse;
 import com.example.auth.entity.Paper;
-import com.example.auth.service.AuthService;
+import com.example.auth.search.SuggestionService;
+import com.example.auth.service.AuthenticatedPrincipal;
+import com.example.auth.service.PaperEventStream;
 import com.example.auth.service.PaperService;
+import com.example.auth.service.Permission;
+import com.example.auth.service.PrincipalCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,9 +21,17 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,7 +47,13 @@ public class PaperController {
     private PaperService paperService;
 
     @Autowired
-    private AuthService authService;
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private PaperEventStream paperEventStream;
+
+    @Autowired
+    private PrincipalCache principalCache;
 
     @PostMapping("/create")
     @Operation(
@@ -51,28 +70,35 @@ public class PaperController {
             responseCode = "400",
             description = "Bad request - User not authorized or invalid data",
             content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "No bearer token, or the session expired",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
         )
     })
     public ResponseEntity<?> createPaper(
             @Parameter(description = "Paper details", required = true)
             @Valid @RequestBody PaperRequest paperRequest,
-            @Parameter(description = "Author username", required = true)
-            @RequestParam String authorUsername) {
-        
-        logger.info("Creating paper request from author: {}, title: {}", 
-                   authorUsername, paperRequest.getTitle());
-        
+            @Parameter(description = "Bearer token from the login response", required = true)
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+
+        // Authorized from the session, without touching the database
+        Optional<AuthenticatedPrincipal> principal = principalCache.resolve(authorization);
+        if (principal.isEmpty()) {
+            return unauthorized(authorization);
+        }
+        String authorUsername = principal.get().username();
         try {
-            // Check if user exists and has AUTHOR role
-            String userRole = authService.getUserRole(authorUsername);
-            if (!"AUTHOR".equals(userRole)) {
-                logger.warn("Paper creation denied: User '{}' does not have AUTHOR role (current role: {})", 
-                           authorUsername, userRole);
+            logger.info("Creating paper request from author: {}, title: {}", authorUsername, paperRequest.getTitle());
+            if (!principal.get().has(Permission.CREATE_PAPER)) {
+                logger.warn("Paper creation denied: User '{}' does not have AUTHOR role (current role: {})",
+                           authorUsername, principal.get().role());
                 return ResponseEntity.badRequest()
                         .body(new MessageResponse("Error: Only authors can create papers!"));
             }
+            Paper paper = paperService.createPaper(paperRequest, principal.get());
 
-            Paper paper = paperService.createPaper(paperRequest, authorUsername);
             logger.info("Paper created successfully with ID: {}, title: '{}', author: {}", 
                        paper.getId(), paper.getTitle(), authorUsername);
             return ResponseEntity.ok(new MessageResponse("Paper created successfully with ID: " + paper.getId()));
@@ -86,7 +112,7 @@ public class PaperController {
     @GetMapping("/search")
     @Operation(
         summary = "Search papers",
-        description = "Search papers by keyword in title or abstract"
+        description = "Search papers by keyword. On PostgreSQL this is ranked full-text search over title, abstract and content (web search syntax: \"phrases\", or, -exclude); elsewhere (e.g. H2) whole-word search of the on-disk segment index: papers with every query word in title, abstract or content, best match first, at most app.search.index.max-results (default 100)"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -95,13 +121,29 @@ public class PaperController {
             content = @Content(schema = @Schema(implementation = Paper.class))
         )
     })
-    public ResponseEntity<List<Paper>> searchPapers(
+    public ResponseEntity<?> searchPapers(
             @Parameter(description = "Search keyword", required = false)
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "Typo-tolerant matching on title, author username and tag names", required = false)
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Minimum fuzzy similarity between 0 and 1 (default 0.5)", required = false)
+            @RequestParam(required = false) Double threshold,
+            @Parameter(description = "Return summaries with highlighted content snippets instead of full papers", required = false)
+            @RequestParam(defaultValue = "false") boolean highlight) {
         
-        logger.info("Search papers request with keyword: '{}'", keyword != null ? keyword : "no keyword");
+        logger.info("Search papers request with keyword: '{}', fuzzy: {}", keyword != null ? keyword : "no keyword", fuzzy);
         
-        List<Paper> papers = paperService.searchPapers(keyword);
+        List<?> papers;
+        try {
+            if (highlight) {
+                papers = paperService.searchPapersWithSnippets(keyword, fuzzy, threshold);
+            } else {
+                papers = fuzzy ? paperService.fuzzySearchPapers(keyword, threshold) : paperService.searchPapers(keyword);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Invalid search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
         
         logger.debug("Search completed - found {} papers for keyword: '{}'", 
                     papers.size(), keyword != null ? keyword : "no keyword");
@@ -109,6 +151,44 @@ public class PaperController {
         return ResponseEntity.ok(papers);
     }
 
+    @GetMapping("/suggest")
+    @Operation(
+        summary = "Autocomplete",
+        description = "Completions for a prefix from paper title words, tag names and author usernames, most popular first"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Suggestions retrieved successfully",
+            content = @Content(schema = @Schema(implementation = SuggestionResponse.class))
+        )
+    })
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @Parameter(description = "Prefix typed so far", required = true)
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (default and cap 10)", required = false)
+            @RequestParam(required = false) Integer limit) {
+        List<SuggestionResponse> suggestions = suggestionService.suggest(prefix, limit).stream()
+                .map(c -> new SuggestionResponse(c.text(), c.kind().name(), c.weight()))
+                .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Paper event stream",
+        description = "Server-sent events for created and published papers. Each event id is the outbox id; "
+                + "reconnect with Last-Event-ID to receive missed events. Events may be repeated, so ignore ids already seen"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    public SseEmitter events(
+            @Parameter(description = "Id of the last event received, to resume after a reconnect", required = false)
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return paperEventStream.subscribe(lastEventId);
+    }
+
     @GetMapping("/published")
     public ResponseEntity<List<Paper>> getPublishedPapers() {
         List<Paper> papers = paperService.getPublishedPapers();
@@ -133,22 +213,24 @@ public class PaperController {
 
     @PostMapping("/publish/{paperId}")
     public ResponseEntity<?> publishPaper(@PathVariable Long paperId,
-                                         @RequestParam String committeeUsername) {
-        
-        logger.info("Publish paper request for paper ID: {}, committee member: {}", 
-                   paperId, committeeUsername);
+                                         @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         
+        // Authorized from the session, without touching the database
+        Optional<AuthenticatedPrincipal> principal = principalCache.resolve(authorization);
+        if (principal.isEmpty()) {
+            return unauthorized(authorization);
+        }
+        String committeeUsername = principal.get().username();
         try {
-            // Check if user has COMMITTEE role
-            String userRole = authService.getUserRole(committeeUsername);
-            if (!"COMMITTEE".equals(userRole)) {
-                logger.warn("Paper publish denied: User '{}' does not have COMMITTEE role (current role: {})", 
-                           committeeUsername, userRole);
+            logger.info("Publish paper request for paper ID: {}, committee member: {}", paperId, committeeUsername);
+            if (!principal.get().has(Permission.PUBLISH_PAPER)) {
+                logger.warn("Paper publish denied: User '{}' does not have COMMITTEE role (current role: {})",
+                           committeeUsername, principal.get().role());
                 return ResponseEntity.badRequest()
                         .body(new MessageResponse("Error: Only committee members can publish papers!"));
             }
+            Paper paper = paperService.publishPaper(paperId, principal.get());
 
-            Paper paper = paperService.publishPaper(paperId, committeeUsername);
             logger.info("Paper published successfully - ID: {}, title: '{}', published by: {}", 
                        paper.getId(), paper.getTitle(), committeeUsername);
             return ResponseEntity.ok(new MessageResponse("Paper published successfully!"));
@@ -160,6 +242,13 @@ public class PaperController {
         }
     }
 
+    private static ResponseEntity<MessageResponse> unauthorized(String authorization) {
+        String message = PrincipalCache.hasBearerToken(authorization)
+                ? "Error: Session expired or invalid, please log in again"
+                : "Error: Log in and send the bearer token from the login response";
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse(message));
+    }
+
     @GetMapping("/committee/{username}")
     public ResponseEntity<List<Paper>> getPapersPublishedByCommittee(@PathVariable String username) {
         try {
@@ -196,6 +285,26 @@ public class PaperController {
         return ResponseEntity.ok(papers);
     }
 
+    @GetMapping(value = "/export", produces = "text/csv")
+    @Operation(
+        summary = "Export papers as CSV",
+        description = "Stream every paper as CSV. Served from the dedicated export connection pool"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "CSV stream of all papers")
+    })
+    public ResponseEntity<StreamingResponseBody> exportPapers() {
+        logger.info("Paper export requested");
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            paperService.exportPapersCsv(writer);
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"papers.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
     // Default endpoint for /api/papers/ - returns all papers
     @GetMapping("/")
     public ResponseEntity<List<Paper>> getPapers() {
@@ -0,0 +1,129 @@
+package com.example.auth.controller;
+
+import com.example.auth.dto.MessageResponse;
+import com.example.auth.dto.SlowQueryLogResponse;
+import com.example.auth.service.AuthenticatedPrincipal;
+import com.example.auth.service.Permission;
+import com.example.auth.service.PrincipalCache;
+import com.example.auth.service.SlowQueryLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+@RequestMapping("/api/admin/slow-queries")
+@ConditionalOnProperty(name = "app.slow-query.enabled", havingValue = "true")
+@Tag(name = "Slow Queries", description = "Recent statements slower than app.slow-query.threshold-ms, for committee members")
+public class SlowQueryController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryController.class);
+
+    private static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @GetMapping
+    @Operation(
+        summary = "Recent slow statements",
+        description = "Newest first, with bind types, rows, the repository method and application stack frames " +
+                      "that issued each one, and a sampled EXPLAIN ANALYZE plan when app.slow-query.explain-sample-rate is set"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Slow statements retrieved successfully",
+            content = @Content(schema = @Schema(implementation = SlowQueryLogResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "No bearer token, or the session expired",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Not a committee member",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        )
+    })
+    public ResponseEntity<?> getSlowQueries(
+            @Parameter(description = "Maximum number of statements to return", example = "50")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Bearer token from the login response", required = true)
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        ResponseEntity<MessageResponse> denied = checkAccess(authorization);
+        if (denied != null) {
+            return denied;
+        }
+        return ResponseEntity.ok(slowQueryLog.recent(Math.max(0, Math.min(limit, MAX_LIMIT))));
+    }
+
+    @DeleteMapping
+    @Operation(
+        summary = "Clear slow statements",
+        description = "Empties the ring and resets the captured count, e.g. before reproducing a spike"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Slow statements cleared",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "No bearer token, or the session expired",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Not a committee member",
+            content = @Content(schema = @Schema(implementation = MessageResponse.class))
+        )
+    })
+    public ResponseEntity<MessageResponse> clear(
+            @Parameter(description = "Bearer token from the login response", required = true)
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        ResponseEntity<MessageResponse> denied = checkAccess(authorization);
+        if (denied != null) {
+            return denied;
+        }
+        slowQueryLog.clear();
+        return ResponseEntity.ok(new MessageResponse("Slow statements cleared"));
+    }
+
+    // Authorized from the session, without touching the database; null when the caller may proceed
+    private ResponseEntity<MessageResponse> checkAccess(String authorization) {
+        Optional<AuthenticatedPrincipal> principal = principalCache.resolve(authorization);
+        if (principal.isEmpty()) {
+            String message = PrincipalCache.hasBearerToken(authorization)
+                    ? "Error: Session expired or invalid, please log in again"
+                    : "Error: Log in and send the bearer token from the login response";
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse(message));
+        }
+        if (!principal.get().has(Permission.VIEW_DIAGNOSTICS)) {
+            logger.warn("Slow query log denied: User '{}' does not have COMMITTEE role (current role: {})",
+                       principal.get().username(), principal.get().role());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new MessageResponse("Error: Only committee members can view slow queries!"));
+        }
+        return null;
+    }
+}
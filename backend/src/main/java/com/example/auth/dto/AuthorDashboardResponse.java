@@ -0,0 +1,71 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Everything the author dashboard shows, in one response")
+public class AuthorDashboardResponse {
+    @Schema(description = "Author username", example = "author1")
+    private String username;
+
+    @Schema(description = "Number of papers by the author", example = "3")
+    private long totalPapers;
+
+    @Schema(description = "Number of the author's papers that are published", example = "1")
+    private long publishedPapers;
+
+    @Schema(description = "Number of the author's papers awaiting publication", example = "2")
+    private long draftPapers;
+
+    @Schema(description = "The author's papers, newest first")
+    private List<PaperSummary> papers;
+
+    public AuthorDashboardResponse(String username, long totalPapers, long publishedPapers, long draftPapers, List<PaperSummary> papers) {
+        this.username = username;
+        this.totalPapers = totalPapers;
+        this.publishedPapers = publishedPapers;
+        this.draftPapers = draftPapers;
+        this.papers = papers;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public long getTotalPapers() {
+        return totalPapers;
+    }
+
+    public void setTotalPapers(long totalPapers) {
+        this.totalPapers = totalPapers;
+    }
+
+    public long getPublishedPapers() {
+        return publishedPapers;
+    }
+
+    public void setPublishedPapers(long publishedPapers) {
+        this.publishedPapers = publishedPapers;
+    }
+
+    public long getDraftPapers() {
+        return draftPapers;
+    }
+
+    public void setDraftPapers(long draftPapers) {
+        this.draftPapers = draftPapers;
+    }
+
+    public List<PaperSummary> getPapers() {
+        return papers;
+    }
+
+    public void setPapers(List<PaperSummary> papers) {
+        this.papers = papers;
+    }
+}
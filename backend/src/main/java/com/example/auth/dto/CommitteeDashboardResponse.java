@@ -0,0 +1,83 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Everything the committee dashboard shows, in one response")
+public class CommitteeDashboardResponse {
+    @Schema(description = "Committee member username", example = "committee1")
+    private String username;
+
+    @Schema(description = "Number of papers in the system", example = "5")
+    private long totalPapers;
+
+    @Schema(description = "Number of papers awaiting publication", example = "2")
+    private long pendingPapers;
+
+    @Schema(description = "Number of papers this committee member has published", example = "2")
+    private long publishedByMe;
+
+    @Schema(description = "Papers awaiting publication, newest first")
+    private List<PaperSummary> pending;
+
+    @Schema(description = "All papers, newest first")
+    private List<PaperSummary> papers;
+
+    public CommitteeDashboardResponse(String username, long totalPapers, long pendingPapers, long publishedByMe, List<PaperSummary> pending, List<PaperSummary> papers) {
+        this.username = username;
+        this.totalPapers = totalPapers;
+        this.pendingPapers = pendingPapers;
+        this.publishedByMe = publishedByMe;
+        this.pending = pending;
+        this.papers = papers;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public long getTotalPapers() {
+        return totalPapers;
+    }
+
+    public void setTotalPapers(long totalPapers) {
+        this.totalPapers = totalPapers;
+    }
+
+    public long getPendingPapers() {
+        return pendingPapers;
+    }
+
+    public void setPendingPapers(long pendingPapers) {
+        this.pendingPapers = pendingPapers;
+    }
+
+    public long getPublishedByMe() {
+        return publishedByMe;
+    }
+
+    public void setPublishedByMe(long publishedByMe) {
+        this.publishedByMe = publishedByMe;
+    }
+
+    public List<PaperSummary> getPending() {
+        return pending;
+    }
+
+    public void setPending(List<PaperSummary> pending) {
+        this.pending = pending;
+    }
+
+    public List<PaperSummary> getPapers() {
+        return papers;
+    }
+
+    public void setPapers(List<PaperSummary> papers) {
+        this.papers = papers;
+    }
+}
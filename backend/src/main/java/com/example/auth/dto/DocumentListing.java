@@ -0,0 +1,141 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "Document listing row built from precomputed content statistics")
+public class DocumentListing {
+    @Schema(description = "Unique identifier of the document", example = "1")
+    private Long id;
+
+    @Schema(description = "Concrete document type", example = "ResearchPaper")
+    private String documentType;
+
+    @Schema(description = "Document title", example = "Machine Learning in Healthcare")
+    private String title;
+
+    @Schema(description = "Author display name", example = "Dr. Helen Martinez")
+    private String authorName;
+
+    @Schema(description = "Whether the document is published", example = "true")
+    private Boolean published;
+
+    @Schema(description = "Number of words in the content", example = "1250")
+    private Integer wordCount;
+
+    @Schema(description = "Estimated reading time in minutes", example = "7")
+    private Integer readingTimeMinutes;
+
+    @Schema(description = "First characters of the content", example = "This comprehensive study explores...")
+    private String summary;
+
+    @Schema(description = "Number of views", example = "42")
+    private Integer viewCount;
+
+    @Schema(description = "Creation timestamp", example = "2023-12-01T10:00:00")
+    private LocalDateTime createdAt;
+
+    public DocumentListing() {
+    }
+
+    public DocumentListing(Long id, String title, String authorName, Boolean published, Integer wordCount,
+                           Integer readingTimeMinutes, String summary, Integer viewCount, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.authorName = authorName;
+        this.published = published;
+        this.wordCount = wordCount;
+        this.readingTimeMinutes = readingTimeMinutes;
+        this.summary = summary;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+    }
+
+    // Used by repository queries, which select TYPE(d) alongside the listing columns
+    public DocumentListing(Long id, Class<?> documentType, String title, String authorName, Boolean published,
+                           Integer wordCount, Integer readingTimeMinutes, String summary, Integer viewCount,
+                           LocalDateTime createdAt) {
+        this(id, title, authorName, published, wordCount, readingTimeMinutes, summary, viewCount, createdAt);
+        this.documentType = documentType != null ? documentType.getSimpleName() : null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDocumentType() {
+        return documentType;
+    }
+
+    public void setDocumentType(String documentType) {
+        this.documentType = documentType;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+
+    public Boolean getPublished() {
+        return published;
+    }
+
+    public void setPublished(Boolean published) {
+        this.published = published;
+    }
+
+    public Integer getWordCount() {
+        return wordCount;
+    }
+
+    public void setWordCount(Integer wordCount) {
+        this.wordCount = wordCount;
+    }
+
+    public Integer getReadingTimeMinutes() {
+        return readingTimeMinutes;
+    }
+
+    public void setReadingTimeMinutes(Integer readingTimeMinutes) {
+        this.readingTimeMinutes = readingTimeMinutes;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public void setSummary(String summary) {
+        this.summary = summary;
+    }
+
+    public Integer getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(Integer viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A full table scan found in the plan of a captured statement")
+public class IndexAdvisorFinding {
+    @Schema(description = "Scanned table", example = "papers")
+    private String table;
+
+    @Schema(description = "Rows in the table when the report was built", example = "12000")
+    private long tableRows;
+
+    @Schema(description = "Statement as executed, with ? placeholders")
+    private String sql;
+
+    @Schema(description = "Repository methods that issued the statement", example = "[\"PaperRepository.findSummaryRowsByAuthor\"]")
+    private List<String> repositoryMethods;
+
+    @Schema(description = "Times the statement ran since capture started", example = "42")
+    private long executions;
+
+    @Schema(description = "Java types of the bind values used for EXPLAIN", example = "(String)")
+    private String bindShape;
+
+    @Schema(description = "Columns of the table used in WHERE or JOIN conditions, equality first", example = "[\"author_id\"]")
+    private List<String> predicateColumns;
+
+    @Schema(description = "Index that would let the planner avoid the scan, or null if none applies", example = "create index idx_papers_author_id on papers (author_id)")
+    private String suggestedIndex;
+
+    @Schema(description = "Why there is or is not a suggestion")
+    private String note;
+
+    @Schema(description = "EXPLAIN output")
+    private String plan;
+
+    public IndexAdvisorFinding(String table, long tableRows, String sql, List<String> repositoryMethods, long executions, String bindShape, List<String> predicateColumns, String suggestedIndex, String note, String plan) {
+        this.table = table;
+        this.tableRows = tableRows;
+        this.sql = sql;
+        this.repositoryMethods = repositoryMethods;
+        this.executions = executions;
+        this.bindShape = bindShape;
+        this.predicateColumns = predicateColumns;
+        this.suggestedIndex = suggestedIndex;
+        this.note = note;
+        this.plan = plan;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public void setTable(String table) {
+        this.table = table;
+    }
+
+    public long getTableRows() {
+        return tableRows;
+    }
+
+    public void setTableRows(long tableRows) {
+        this.tableRows = tableRows;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public List<String> getRepositoryMethods() {
+        return repositoryMethods;
+    }
+
+    public void setRepositoryMethods(List<String> repositoryMethods) {
+        this.repositoryMethods = repositoryMethods;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public String getBindShape() {
+        return bindShape;
+    }
+
+    public void setBindShape(String bindShape) {
+        this.bindShape = bindShape;
+    }
+
+    public List<String> getPredicateColumns() {
+        return predicateColumns;
+    }
+
+    public void setPredicateColumns(List<String> predicateColumns) {
+        this.predicateColumns = predicateColumns;
+    }
+
+    public String getSuggestedIndex() {
+        return suggestedIndex;
+    }
+
+    public void setSuggestedIndex(String suggestedIndex) {
+        this.suggestedIndex = suggestedIndex;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    public void setPlan(String plan) {
+        this.plan = plan;
+    }
+}
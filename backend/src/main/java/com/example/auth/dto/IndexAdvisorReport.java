@@ -0,0 +1,96 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Query plans of the statements captured in the dev profile, checked for full table scans")
+public class IndexAdvisorReport {
+    @Schema(description = "When the report was built")
+    private LocalDateTime generatedAt;
+
+    @Schema(description = "Database product the plans come from", example = "PostgreSQL")
+    private String database;
+
+    @Schema(description = "Scans of tables with fewer rows are not reported (app.index-advisor.min-rows)", example = "1000")
+    private long minRows;
+
+    @Schema(description = "Distinct statements captured", example = "37")
+    private int statementsCaptured;
+
+    @Schema(description = "Statements whose plan was obtained", example = "35")
+    private int statementsExplained;
+
+    @Schema(description = "Statements EXPLAIN could not run (see the log)", example = "2")
+    private int statementsFailed;
+
+    @Schema(description = "Reported scans, largest tables first")
+    private List<IndexAdvisorFinding> findings;
+
+    public IndexAdvisorReport(LocalDateTime generatedAt, String database, long minRows, int statementsCaptured, int statementsExplained, int statementsFailed, List<IndexAdvisorFinding> findings) {
+        this.generatedAt = generatedAt;
+        this.database = database;
+        this.minRows = minRows;
+        this.statementsCaptured = statementsCaptured;
+        this.statementsExplained = statementsExplained;
+        this.statementsFailed = statementsFailed;
+        this.findings = findings;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public String getDatabase() {
+        return database;
+    }
+
+    public void setDatabase(String database) {
+        this.database = database;
+    }
+
+    public long getMinRows() {
+        return minRows;
+    }
+
+    public void setMinRows(long minRows) {
+        this.minRows = minRows;
+    }
+
+    public int getStatementsCaptured() {
+        return statementsCaptured;
+    }
+
+    public void setStatementsCaptured(int statementsCaptured) {
+        this.statementsCaptured = statementsCaptured;
+    }
+
+    public int getStatementsExplained() {
+        return statementsExplained;
+    }
+
+    public void setStatementsExplained(int statementsExplained) {
+        this.statementsExplained = statementsExplained;
+    }
+
+    public int getStatementsFailed() {
+        return statementsFailed;
+    }
+
+    public void setStatementsFailed(int statementsFailed) {
+        this.statementsFailed = statementsFailed;
+    }
+
+    public List<IndexAdvisorFinding> getFindings() {
+        return findings;
+    }
+
+    public void setFindings(List<IndexAdvisorFinding> findings) {
+        this.findings = findings;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Paper search hit: summary fields plus highlighted content snippets instead of the full text")
+public class PaperSearchResult {
+    @Schema(description = "Paper id", example = "1")
+    private Long id;
+
+    @Schema(description = "Paper title", example = "Introduction to Machine Learning")
+    private String title;
+
+    @Schema(description = "Paper abstract", example = "This paper provides a comprehensive introduction to machine learning concepts...")
+    private String abstractText;
+
+    @Schema(description = "Author username", example = "author1")
+    private String authorName;
+
+    @Schema(description = "Publication date, null while unpublished", example = "2023-12-01T10:00:00")
+    private LocalDateTime publicationDate;
+
+    @Schema(description = "Tag names", example = "[\"AI\", \"Machine Learning\"]")
+    private List<String> tags;
+
+    @Schema(description = "HTML-escaped content fragments around the matches, with matches wrapped in <mark>",
+            example = "[\"…<mark>Machine</mark> <mark>learning</mark> is a subset of artificial intelligence…\"]")
+    private List<String> snippets;
+
+    public PaperSearchResult(Long id, String title, String abstractText, String authorName,
+                             LocalDateTime publicationDate, List<String> tags, List<String> snippets) {
+        this.id = id;
+        this.title = title;
+        this.abstractText = abstractText;
+        this.authorName = authorName;
+        this.publicationDate = publicationDate;
+        this.tags = tags;
+        this.snippets = snippets;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAbstractText() {
+        return abstractText;
+    }
+
+    public void setAbstractText(String abstractText) {
+        this.abstractText = abstractText;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+
+    public LocalDateTime getPublicationDate() {
+        return publicationDate;
+    }
+
+    public void setPublicationDate(LocalDateTime publicationDate) {
+        this.publicationDate = publicationDate;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public List<String> getSnippets() {
+        return snippets;
+    }
+
+    public void setSnippets(List<String> snippets) {
+        this.snippets = snippets;
+    }
+}
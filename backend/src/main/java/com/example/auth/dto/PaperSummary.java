@@ -0,0 +1,132 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Paper fields shown on the dashboards; content is cut to a preview")
+public class PaperSummary {
+    @Schema(description = "Paper id", example = "1")
+    private Long id;
+
+    @Schema(description = "Paper title", example = "Introduction to Machine Learning")
+    private String title;
+
+    @Schema(description = "Paper abstract", example = "This paper provides a comprehensive introduction to machine learning concepts...")
+    private String abstractText;
+
+    @Schema(description = "Start of the content, at most 200 characters", example = "Machine learning is a subset of artificial intelligence...")
+    private String contentPreview;
+
+    @Schema(description = "Author user id", example = "2")
+    private Long authorId;
+
+    @Schema(description = "Author username", example = "author1")
+    private String authorName;
+
+    @Schema(description = "Username of the committee member who published the paper, null while unpublished", example = "committee1")
+    private String publishedBy;
+
+    @Schema(description = "Publication date, null while unpublished", example = "2023-12-01T10:00:00")
+    private LocalDateTime publicationDate;
+
+    @Schema(description = "Creation time", example = "2023-11-20T09:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Tag names", example = "[\"AI\", \"Machine Learning\"]")
+    private List<String> tags;
+
+    public PaperSummary(Long id, String title, String abstractText, String contentPreview, Long authorId, String authorName, String publishedBy, LocalDateTime publicationDate, LocalDateTime createdAt, List<String> tags) {
+        this.id = id;
+        this.title = title;
+        this.abstractText = abstractText;
+        this.contentPreview = contentPreview;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.publishedBy = publishedBy;
+        this.publicationDate = publicationDate;
+        this.createdAt = createdAt;
+        this.tags = tags;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAbstractText() {
+        return abstractText;
+    }
+
+    public void setAbstractText(String abstractText) {
+        this.abstractText = abstractText;
+    }
+
+    public String getContentPreview() {
+        return contentPreview;
+    }
+
+    public void setContentPreview(String contentPreview) {
+        this.contentPreview = contentPreview;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+
+    public String getPublishedBy() {
+        return publishedBy;
+    }
+
+    public void setPublishedBy(String publishedBy) {
+        this.publishedBy = publishedBy;
+    }
+
+    public LocalDateTime getPublicationDate() {
+        return publicationDate;
+    }
+
+    public void setPublicationDate(LocalDateTime publicationDate) {
+        this.publicationDate = publicationDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
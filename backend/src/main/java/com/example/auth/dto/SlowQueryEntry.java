@@ -0,0 +1,144 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "A statement that took longer than app.slow-query.threshold-ms")
+public class SlowQueryEntry {
+    @Schema(description = "When the statement finished")
+    private LocalDateTime capturedAt;
+
+    @Schema(description = "Time spent in the execute call, in milliseconds", example = "812.4")
+    private double elapsedMs;
+
+    @Schema(description = "SQL as prepared, with ? placeholders")
+    private String sql;
+
+    @Schema(description = "Types of the bind values (values are not kept)", example = "(String, String, String)")
+    private String bindShape;
+
+    @Schema(description = "Rows affected, or rows read from the result so far; null if unknown", example = "240")
+    private Long rows;
+
+    @Schema(description = "Whether the statement threw")
+    private boolean failed;
+
+    @Schema(description = "Repository method that issued it, if any", example = "PaperRepository.searchByKeyword")
+    private String repositoryMethod;
+
+    @Schema(description = "Connection pool the calling code was routed to", example = "READ")
+    private String workload;
+
+    @Schema(description = "Thread that ran it", example = "http-nio-8080-exec-3")
+    private String thread;
+
+    @Schema(description = "Innermost application frames at the time, innermost first")
+    private List<String> stack;
+
+    @Schema(description = "EXPLAIN ANALYZE output when this statement was sampled (PostgreSQL only)")
+    private String plan;
+
+    public SlowQueryEntry(LocalDateTime capturedAt, double elapsedMs, String sql, String bindShape, Long rows, boolean failed, String repositoryMethod, String workload, String thread, List<String> stack, String plan) {
+        this.capturedAt = capturedAt;
+        this.elapsedMs = elapsedMs;
+        this.sql = sql;
+        this.bindShape = bindShape;
+        this.rows = rows;
+        this.failed = failed;
+        this.repositoryMethod = repositoryMethod;
+        this.workload = workload;
+        this.thread = thread;
+        this.stack = stack;
+        this.plan = plan;
+    }
+
+    public LocalDateTime getCapturedAt() {
+        return capturedAt;
+    }
+
+    public void setCapturedAt(LocalDateTime capturedAt) {
+        this.capturedAt = capturedAt;
+    }
+
+    public double getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(double elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public String getBindShape() {
+        return bindShape;
+    }
+
+    public void setBindShape(String bindShape) {
+        this.bindShape = bindShape;
+    }
+
+    public Long getRows() {
+        return rows;
+    }
+
+    public void setRows(Long rows) {
+        this.rows = rows;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+
+    public String getRepositoryMethod() {
+        return repositoryMethod;
+    }
+
+    public void setRepositoryMethod(String repositoryMethod) {
+        this.repositoryMethod = repositoryMethod;
+    }
+
+    public String getWorkload() {
+        return workload;
+    }
+
+    public void setWorkload(String workload) {
+        this.workload = workload;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public void setThread(String thread) {
+        this.thread = thread;
+    }
+
+    public List<String> getStack() {
+        return stack;
+    }
+
+    public void setStack(List<String> stack) {
+        this.stack = stack;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    public void setPlan(String plan) {
+        this.plan = plan;
+    }
+}
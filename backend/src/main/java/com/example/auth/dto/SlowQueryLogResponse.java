@@ -0,0 +1,59 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Most recent slow statements, from the in-memory ring")
+public class SlowQueryLogResponse {
+    @Schema(description = "Statements at least this slow are captured (app.slow-query.threshold-ms)", example = "500")
+    private long thresholdMs;
+
+    @Schema(description = "How many statements the ring keeps; older ones are overwritten", example = "200")
+    private int capacity;
+
+    @Schema(description = "Slow statements seen since startup or the last reset, including overwritten ones", example = "1375")
+    private long totalCaptured;
+
+    @Schema(description = "Captured statements, newest first")
+    private List<SlowQueryEntry> entries;
+
+    public SlowQueryLogResponse(long thresholdMs, int capacity, long totalCaptured, List<SlowQueryEntry> entries) {
+        this.thresholdMs = thresholdMs;
+        this.capacity = capacity;
+        this.totalCaptured = totalCaptured;
+        this.entries = entries;
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    public void setThresholdMs(long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getTotalCaptured() {
+        return totalCaptured;
+    }
+
+    public void setTotalCaptured(long totalCaptured) {
+        this.totalCaptured = totalCaptured;
+    }
+
+    public List<SlowQueryEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<SlowQueryEntry> entries) {
+        this.entries = entries;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Everything the student dashboard shows, in one response")
+public class StudentDashboardResponse {
+    @Schema(description = "Number of papers in the system", example = "5")
+    private long totalPapers;
+
+    @Schema(description = "Number of published papers", example = "3")
+    private long publishedPapers;
+
+    @Schema(description = "All papers, newest first")
+    private List<PaperSummary> papers;
+
+    public StudentDashboardResponse(long totalPapers, long publishedPapers, List<PaperSummary> papers) {
+        this.totalPapers = totalPapers;
+        this.publishedPapers = publishedPapers;
+        this.papers = papers;
+    }
+
+    public long getTotalPapers() {
+        return totalPapers;
+    }
+
+    public void setTotalPapers(long totalPapers) {
+        this.totalPapers = totalPapers;
+    }
+
+    public long getPublishedPapers() {
+        return publishedPapers;
+    }
+
+    public void setPublishedPapers(long publishedPapers) {
+        this.publishedPapers = publishedPapers;
+    }
+
+    public List<PaperSummary> getPapers() {
+        return papers;
+    }
+
+    public void setPapers(List<PaperSummary> papers) {
+        this.papers = papers;
+    }
+}
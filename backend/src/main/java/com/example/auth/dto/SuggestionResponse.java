@@ -0,0 +1,45 @@
+package com.example.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Autocomplete suggestion")
+public class SuggestionResponse {
+    @Schema(description = "Completed text", example = "learning")
+    private String text;
+
+    @Schema(description = "Source of the suggestion: TITLE (word of a paper title), TAG or AUTHOR", example = "TITLE")
+    private String type;
+
+    @Schema(description = "Popularity: papers carrying the term, published papers counting double", example = "4")
+    private long weight;
+
+    public SuggestionResponse(String text, String type, long weight) {
+        this.text = text;
+        this.type = type;
+        this.weight = weight;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public void setWeight(long weight) {
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.auth.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only admin access log entry. Rows are only ever inserted in batches and
+ * removed by the retention job, never updated.
+ */
+@Entity
+@Table(name = "admin_access_logs", indexes = {
+    @Index(name = "idx_admin_access_logs_admin", columnList = "admin_type, admin_id, occurred_at"),
+    @Index(name = "idx_admin_access_logs_occurred_at", columnList = "occurred_at")
+})
+public class AdminAccessLog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Size(max = 30)
+    @Column(name = "admin_type", nullable = false)
+    private String adminType;
+
+    @Column(name = "admin_id", nullable = false)
+    private Long adminId;
+
+    @Size(max = 255)
+    @Column(name = "action", nullable = false)
+    private String action;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public AdminAccessLog() {
+    }
+
+    public AdminAccessLog(String adminType, Long adminId, String action, LocalDateTime occurredAt) {
+        this.adminType = adminType;
+        this.adminId = adminId;
+        this.action = action;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getAdminType() {
+        return adminType;
+    }
+
+    public void setAdminType(String adminType) {
+        this.adminType = adminType;
+    }
+
+    public Long getAdminId() {
+        return adminId;
+    }
+
+    public void setAdminId(Long adminId) {
+        this.adminId = adminId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
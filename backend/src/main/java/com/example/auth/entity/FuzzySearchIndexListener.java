@@ -0,0 +1,79 @@
+package com.example.auth.entity;
+
+import com.example.auth.search.FuzzySearchService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the fuzzy search trigram indexes in step with papers, users and tags. Changes reach
+ * the indexes only once their transaction commits, so a rollback leaves them untouched.
+ *
+ * The search service is resolved lazily because it depends on the same EntityManagerFactory
+ * that instantiates this listener; the other entity listeners refer here for the same reason.
+ */
+@Component
+public class FuzzySearchIndexListener {
+
+    private final ObjectProvider<FuzzySearchService> fuzzySearch;
+
+    public FuzzySearchIndexListener(ObjectProvider<FuzzySearchService> fuzzySearch) {
+        this.fuzzySearch = fuzzySearch;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        FuzzySearchService index = fuzzySearch.getIfAvailable();
+        if (index == null) return;
+
+        // Values as saved, not as the entity may look by commit time
+        if (entity instanceof Paper paper) {
+            Long id = paper.getId();
+            String title = paper.getTitle();
+            afterCommit(() -> index.indexPaperTitle(id, title));
+        } else if (entity instanceof User user) {
+            Long id = user.getId();
+            String username = user.getUsername();
+            afterCommit(() -> index.indexUsername(id, username));
+        } else if (entity instanceof Tag tag) {
+            Long id = tag.getId();
+            String name = tag.getName();
+            afterCommit(() -> index.indexTagName(id, name));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        FuzzySearchService index = fuzzySearch.getIfAvailable();
+        if (index == null) return;
+
+        if (entity instanceof Paper paper) {
+            Long id = paper.getId();
+            afterCommit(() -> index.removePaper(id));
+        } else if (entity instanceof User user) {
+            Long id = user.getId();
+            afterCommit(() -> index.removeUser(id));
+        } else if (entity instanceof Tag tag) {
+            Long id = tag.getId();
+            afterCommit(() -> index.removeTag(id));
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.auth.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Id of the last outbox event an OutboxConsumer has applied
+ */
+@Entity
+@Table(name = "outbox_consumer_offsets")
+public class OutboxConsumerOffset {
+    @Id
+    @Column(name = "consumer_name", length = 50)
+    private String consumerName;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public OutboxConsumerOffset() {
+    }
+
+    public OutboxConsumerOffset(String consumerName, Long lastEventId) {
+        this.consumerName = consumerName;
+        this.lastEventId = lastEventId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    public void setConsumerName(String consumerName) {
+        this.consumerName = consumerName;
+    }
+
+    public Long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(Long lastEventId) {
+        this.lastEventId = lastEventId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
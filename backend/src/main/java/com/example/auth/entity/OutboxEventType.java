@@ -0,0 +1,6 @@
+package com.example.auth.entity;
+
+public enum OutboxEventType {
+    PAPER_CREATED,
+    PAPER_PUBLISHED
+}
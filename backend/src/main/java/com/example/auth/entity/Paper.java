@@ -11,6 +11,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "papers")
+@EntityListeners(FuzzySearchIndexListener.class)
 @Schema(description = "Research paper entity")
 public class Paper {
     @Id
@@ -8,6 +8,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "tags")
+@EntityListeners(FuzzySearchIndexListener.class)
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,6 +13,7 @@ import java.util.Set;
     @UniqueConstraint(columnNames = "username"),
     @UniqueConstraint(columnNames = "email")
 })
+@EntityListeners({FuzzySearchIndexListener.class, UserIdentityListener.class})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
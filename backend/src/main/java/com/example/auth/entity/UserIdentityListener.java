@@ -0,0 +1,60 @@
+package com.example.auth.entity;
+
+import com.example.auth.service.PrincipalCache;
+import com.example.auth.service.SignupAvailabilityFilter;
+import com.example.auth.service.UnknownUsernameCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds every saved user's username and email to the signup availability filter and drops the
+ * username from the login negative cache, whichever code path created the user. An update to a
+ * user (e.g. a role change) also revokes their sessions. All are resolved lazily for the same
+ * reason as FuzzySearchIndexListener.
+ */
+@Component
+public class UserIdentityListener {
+
+    private final ObjectProvider<SignupAvailabilityFilter> availabilityFilter;
+    private final ObjectProvider<UnknownUsernameCache> unknownUsernames;
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    public UserIdentityListener(ObjectProvider<SignupAvailabilityFilter> availabilityFilter,
+                                ObjectProvider<UnknownUsernameCache> unknownUsernames,
+                                ObjectProvider<PrincipalCache> principalCache) {
+        this.availabilityFilter = availabilityFilter;
+        this.unknownUsernames = unknownUsernames;
+        this.principalCache = principalCache;
+    }
+
+    @PostPersist
+    public void onPersist(User user) {
+        SignupAvailabilityFilter filter = availabilityFilter.getIfAvailable();
+        if (filter != null) {
+            filter.userCreated(user.getUsername(), user.getEmail());
+        }
+        invalidateUnknown(user);
+    }
+
+    @PostUpdate
+    public void onUpdate(User user) {
+        SignupAvailabilityFilter filter = availabilityFilter.getIfAvailable();
+        if (filter != null) {
+            filter.add(user.getUsername(), user.getEmail());
+        }
+        invalidateUnknown(user);
+        PrincipalCache sessions = principalCache.getIfAvailable();
+        if (sessions != null) {
+            sessions.revokeUser(user.getId());
+        }
+    }
+
+    private void invalidateUnknown(User user) {
+        UnknownUsernameCache cache = unknownUsernames.getIfAvailable();
+        if (cache != null) {
+            cache.invalidate(user.getUsername());
+        }
+    }
+}
@@ -16,8 +16,12 @@ import java.util.Set;
 @Table(name = "documents")
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "document_type", discriminatorType = DiscriminatorType.STRING)
+@EntityListeners(DocumentKeywordListener.class)
 public abstract class AbstractDocument {
     
+    public static final int SUMMARY_LENGTH = 200;
+    public static final int WORDS_PER_MINUTE = 200;
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     protected Long id;
@@ -48,13 +52,25 @@ public abstract class AbstractDocument {
     protected Boolean isPublished = false;
     
     @ElementCollection
-    @CollectionTable(name = "document_keywords", joinColumns = @JoinColumn(name = "document_id"))
+    @CollectionTable(name = "document_keywords", joinColumns = @JoinColumn(name = "document_id"),
+                     indexes = @Index(name = "idx_document_keywords_keyword", columnList = "keyword, document_id"))
     @Column(name = "keyword")
     protected Set<String> keywords = new HashSet<>();
     
     @Column(name = "view_count")
     protected Integer viewCount = 0;
     
+    // Content statistics derived from content at persist/update time so that
+    // listings can show them without loading the TEXT column
+    @Column(name = "word_count")
+    protected Integer wordCount = 0;
+    
+    @Column(name = "content_summary", length = SUMMARY_LENGTH + 3)
+    protected String contentSummary;
+    
+    @Column(name = "reading_time_minutes")
+    protected Integer readingTimeMinutes = 0;
+    
     // Abstract methods that must be implemented by concrete classes
     
     /**
@@ -96,6 +112,7 @@ public abstract class AbstractDocument {
         this.content = content;
         this.authorName = authorName;
         this.authorId = authorId;
+        refreshContentStatistics();
     }
     
     // JPA lifecycle methods
@@ -103,11 +120,51 @@ public abstract class AbstractDocument {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        refreshContentStatistics();
     }
     
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        refreshContentStatistics();
+    }
+    
+    /**
+     * Recompute word count, summary and reading time from the current content.
+     * Called on construction, on content change and from the JPA lifecycle callbacks,
+     * so the getters below never have to scan the content again.
+     */
+    protected void refreshContentStatistics() {
+        this.wordCount = countWords(content);
+        this.contentSummary = summarize(content);
+        this.readingTimeMinutes = readingTimeMinutes(wordCount);
+    }
+    
+    // Static so the V5 migration backfilling rows written before these columns existed uses the same rules
+    public static int countWords(String text) {
+        if (text == null) return 0;
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                inWord = false;
+            } else if (!inWord) {
+                inWord = true;
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    public static String summarize(String text) {
+        if (text == null || text.length() <= SUMMARY_LENGTH) {
+            return text;
+        }
+        return text.substring(0, SUMMARY_LENGTH) + "...";
+    }
+    
+    public static int readingTimeMinutes(int wordCount) {
+        return wordCount == 0 ? 0 : (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
     }
     
     // Common concrete methods available to all document types
@@ -128,18 +185,25 @@ public abstract class AbstractDocument {
     
     public void addKeyword(String keyword) {
         if (keyword != null && !keyword.trim().isEmpty()) {
-            this.keywords.add(keyword.toLowerCase().trim());
+            this.keywords.add(normalizeKeyword(keyword));
             this.updatedAt = LocalDateTime.now();
         }
     }
     
     public void removeKeyword(String keyword) {
         if (keyword != null) {
-            this.keywords.remove(keyword.toLowerCase().trim());
+            this.keywords.remove(normalizeKeyword(keyword));
             this.updatedAt = LocalDateTime.now();
         }
     }
     
+    /**
+     * Canonical form of a keyword as stored in document_keywords and in the keyword index
+     */
+    public static String normalizeKeyword(String keyword) {
+        return keyword.toLowerCase().trim();
+    }
+    
     public void incrementViewCount() {
         this.viewCount++;
         // Don't update updatedAt for view count changes
@@ -157,15 +221,15 @@ public abstract class AbstractDocument {
     }
     
     public int getContentWordCount() {
-        if (content == null) return 0;
-        return content.split("\\s+").length;
+        return wordCount != null ? wordCount : countWords(content);
     }
     
     public String getSummary() {
-        if (content == null || content.length() <= 200) {
-            return content;
-        }
-        return content.substring(0, 200) + "...";
+        return contentSummary;
+    }
+    
+    public int getReadingTimeMinutes() {
+        return readingTimeMinutes != null ? readingTimeMinutes : 0;
     }
     
     // Template method pattern - defines algorithm structure, subclasses implement details
@@ -214,6 +278,7 @@ public abstract class AbstractDocument {
     public void setContent(String content) { 
         this.content = content;
         this.updatedAt = LocalDateTime.now();
+        refreshContentStatistics();
     }
     
     public String getAuthorName() { return authorName; }
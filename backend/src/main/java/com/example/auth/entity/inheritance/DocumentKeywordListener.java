@@ -0,0 +1,66 @@
+package com.example.auth.entity.inheritance;
+
+import com.example.auth.service.KeywordIndexService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the in-memory keyword index in step with persisted documents.
+ * The index service is resolved lazily for the same reason as FuzzySearchIndexListener.
+ * Changes reach the index only once their transaction commits, so a rollback leaves it untouched.
+ */
+@Component
+public class DocumentKeywordListener {
+
+    private final ObjectProvider<KeywordIndexService> keywordIndex;
+
+    public DocumentKeywordListener(ObjectProvider<KeywordIndexService> keywordIndex) {
+        this.keywordIndex = keywordIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(AbstractDocument document) {
+        // An uninitialized collection cannot have been modified, so there is nothing to reindex
+        if (!Hibernate.isInitialized(document.getKeywords())) return;
+
+        KeywordIndexService index = keywordIndex.getIfAvailable();
+        if (index != null) {
+            // The keywords as saved, not as the entity may look by commit time
+            Long documentId = document.getId();
+            List<String> keywords = new ArrayList<>(document.getKeywords());
+            afterCommit(() -> index.indexDocument(documentId, keywords));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(AbstractDocument document) {
+        KeywordIndexService index = keywordIndex.getIfAvailable();
+        if (index != null) {
+            Long documentId = document.getId();
+            afterCommit(() -> index.removeDocument(documentId));
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.auth.entity.inheritance;
 
 import com.example.auth.interfaces.Readable;
+import com.example.auth.permission.PermissionRegistry;
 import jakarta.persistence.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +15,10 @@ import java.util.Map;
 @DiscriminatorValue("READABLE_STUDENT")
 public class ReadableStudent extends Student implements Readable {
     
+    // Grant lists compiled once to DocumentType bitmasks
+    private static final String[] READABLE_TYPES = {"textbook", "assignment", "syllabus", "announcement", "research_paper"};
+    private static final long READABLE_TYPE_MASK = PermissionRegistry.documentTypeMask(READABLE_TYPES);
+    
     @Column(name = "read_count")
     private int readCount = 0;
     
@@ -48,7 +53,12 @@ public class ReadableStudent extends Student implements Readable {
     @Override
     public String[] getReadableDocumentTypes() {
         // Students can read basic academic documents
-        return new String[]{"textbook", "assignment", "syllabus", "announcement", "research_paper"};
+        return READABLE_TYPES.clone();
+    }
+    
+    @Override
+    public long getReadableTypeMask() {
+        return READABLE_TYPE_MASK;
     }
     
     @Override
@@ -2,6 +2,7 @@ package com.example.auth.entity.inheritance;
 
 import com.example.auth.interfaces.Administrable;
 import com.example.auth.interfaces.Publishable;
+import com.example.auth.permission.PermissionRegistry;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,6 +19,17 @@ import java.util.Map;
 @DiscriminatorValue("SUPER_ADMIN")
 public class SuperAdministrator extends Administrator implements Publishable, Administrable {
     
+    // Grant lists compiled once to DocumentType bitmasks
+    private static final String[] READABLE_TYPES = {"research_paper", "policy_document", "financial_report",
+        "meeting_minutes", "user_data", "system_logs", "confidential"};
+    private static final long READABLE_TYPE_MASK = PermissionRegistry.documentTypeMask(READABLE_TYPES);
+    private static final String[] WRITABLE_TYPES = {"policy_document", "announcement", "directive",
+        "financial_report", "system_notice", "regulation"};
+    private static final long WRITABLE_TYPE_MASK = PermissionRegistry.documentTypeMask(WRITABLE_TYPES);
+    private static final String[] PUBLISHABLE_TYPES = {"research_paper", "policy_document", "announcement",
+        "regulation", "directive", "report", "notice"};
+    private static final long PUBLISHABLE_TYPE_MASK = PermissionRegistry.documentTypeMask(PUBLISHABLE_TYPES);
+    
     // Fields for Readable interface implementation
     @Column(name = "read_count")
     private int readCount = 0;
@@ -79,8 +91,12 @@ public class SuperAdministrator extends Administrator implements Publishable, Ad
     @Override
     public String[] getReadableDocumentTypes() {
         // Super administrators can read everything
-        return new String[]{"research_paper", "policy_document", "financial_report", 
-                           "meeting_minutes", "user_data", "system_logs", "confidential"};
+        return READABLE_TYPES.clone();
+    }
+    
+    @Override
+    public long getReadableTypeMask() {
+        return READABLE_TYPE_MASK;
     }
     
     @Override
@@ -120,8 +136,12 @@ public class SuperAdministrator extends Administrator implements Publishable, Ad
     @Override
     public String[] getWritableDocumentTypes() {
         // Super administrators can write all types
-        return new String[]{"policy_document", "announcement", "directive", 
-                           "financial_report", "system_notice", "regulation"};
+        return WRITABLE_TYPES.clone();
+    }
+    
+    @Override
+    public long getWritableTypeMask() {
+        return WRITABLE_TYPE_MASK;
     }
     
     @Override
@@ -183,8 +203,12 @@ public class SuperAdministrator extends Administrator implements Publishable, Ad
     @Override
     public String[] getPublishableDocumentTypes() {
         // Super administrators can publish everything
-        return new String[]{"research_paper", "policy_document", "announcement", 
-                           "regulation", "directive", "report", "notice"};
+        return PUBLISHABLE_TYPES.clone();
+    }
+    
+    @Override
+    public long getPublishableTypeMask() {
+        return PUBLISHABLE_TYPE_MASK;
     }
     
     @Override
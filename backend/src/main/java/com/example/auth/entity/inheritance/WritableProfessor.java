@@ -1,6 +1,7 @@
 package com.example.auth.entity.inheritance;
 
 import com.example.auth.interfaces.Writable;
+import com.example.auth.permission.PermissionRegistry;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,6 +18,14 @@ import java.util.Map;
 @DiscriminatorValue("WRITABLE_PROFESSOR")
 public class WritableProfessor extends Professor implements Writable {
     
+    // Grant lists compiled once to DocumentType bitmasks
+    private static final String[] READABLE_TYPES = {"research_paper", "textbook", "thesis", "grant_proposal",
+        "policy_document", "meeting_minutes", "syllabus"};
+    private static final long READABLE_TYPE_MASK = PermissionRegistry.documentTypeMask(READABLE_TYPES);
+    private static final String[] WRITABLE_TYPES = {"research_paper", "syllabus", "assignment", "exam",
+        "lecture_notes", "grant_proposal", "review"};
+    private static final long WRITABLE_TYPE_MASK = PermissionRegistry.documentTypeMask(WRITABLE_TYPES);
+    
     @Column(name = "read_count")
     private int readCount = 0;
     
@@ -59,8 +68,12 @@ public class WritableProfessor extends Professor implements Writable {
     @Override
     public String[] getReadableDocumentTypes() {
         // Professors can read academic and administrative documents
-        return new String[]{"research_paper", "textbook", "thesis", "grant_proposal", 
-                           "policy_document", "meeting_minutes", "syllabus"};
+        return READABLE_TYPES.clone();
+    }
+    
+    @Override
+    public long getReadableTypeMask() {
+        return READABLE_TYPE_MASK;
     }
     
     @Override
@@ -110,8 +123,12 @@ public class WritableProfessor extends Professor implements Writable {
     @Override
     public String[] getWritableDocumentTypes() {
         // Professors can write academic documents
-        return new String[]{"research_paper", "syllabus", "assignment", "exam", 
-                           "lecture_notes", "grant_proposal", "review"};
+        return WRITABLE_TYPES.clone();
+    }
+    
+    @Override
+    public long getWritableTypeMask() {
+        return WRITABLE_TYPE_MASK;
     }
     
     @Override
@@ -0,0 +1,9 @@
+package com.example.auth.entity.inheritance.strategy;
+
+/**
+ * Admin entities whose actions are written to the admin_access_logs table
+ */
+public interface AccessAuditedAdmin {
+    Long getId();
+    AdminAccessTrail accessTrail();
+}
@@ -0,0 +1,32 @@
+package com.example.auth.entity.inheritance.strategy;
+
+import com.example.auth.service.AdminAccessLogService;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connects persisted admins to the batched access log writer. The service is resolved lazily
+ * for the same reason as FuzzySearchIndexListener.
+ */
+@Component
+public class AdminAccessLogListener {
+
+    private final ObjectProvider<AdminAccessLogService> accessLogService;
+
+    public AdminAccessLogListener(ObjectProvider<AdminAccessLogService> accessLogService) {
+        this.accessLogService = accessLogService;
+    }
+
+    @PostPersist
+    @PostLoad
+    public void attach(Object entity) {
+        if (!(entity instanceof AccessAuditedAdmin admin)) return;
+
+        AdminAccessLogService service = accessLogService.getIfAvailable();
+        if (service != null) {
+            admin.accessTrail().attach(admin.getId(), service::append);
+        }
+    }
+}
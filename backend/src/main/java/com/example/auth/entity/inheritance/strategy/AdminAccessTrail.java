@@ -0,0 +1,81 @@
+package com.example.auth.entity.inheritance.strategy;
+
+import com.example.auth.entity.AdminAccessLog;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transient access trail held by admin entities.
+ *
+ * Every action is handed to the append-only admin_access_logs writer once the admin
+ * has been persisted (entries recorded before that are buffered and replayed on attach).
+ * The trail also keeps the latest entries recorded on this instance, which the batched writer
+ * may not have flushed yet; AdminAccessLogService.getRecentEntries merges them with the logged
+ * history. Nothing here queries the database, so serializing an admin stays free.
+ */
+public class AdminAccessTrail {
+
+    private static final int MAX_UNATTACHED = 100;
+
+    private final String adminType;
+    private final int recentLimit;
+    private final Deque<AdminAccessLog> recent = new ArrayDeque<>();
+    private final Deque<AdminAccessLog> unattached = new ArrayDeque<>();
+    private Consumer<AdminAccessLog> sink;
+
+    public AdminAccessTrail(String adminType, int recentLimit) {
+        this.adminType = adminType;
+        this.recentLimit = recentLimit;
+    }
+
+    public synchronized void record(Long adminId, String action) {
+        AdminAccessLog entry = new AdminAccessLog(adminType, adminId, action,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)); // as stored, so flushed entries match
+        recent.addLast(entry);
+        while (recent.size() > recentLimit) {
+            recent.removeFirst();
+        }
+
+        if (sink != null && adminId != null) {
+            sink.accept(entry);
+            return;
+        }
+        unattached.addLast(entry);
+        while (unattached.size() > MAX_UNATTACHED) {
+            unattached.removeFirst();
+        }
+    }
+
+    /**
+     * Connect the trail to the log writer once the admin has an id
+     */
+    public synchronized void attach(Long adminId, Consumer<AdminAccessLog> sink) {
+        if (adminId == null) return;
+        this.sink = sink;
+        for (AdminAccessLog entry : unattached) {
+            entry.setAdminId(adminId);
+            sink.accept(entry);
+        }
+        unattached.clear();
+    }
+
+    /**
+     * The latest entries recorded on this instance, oldest first
+     */
+    public synchronized List<AdminAccessLog> localEntries() {
+        return new ArrayList<>(recent);
+    }
+
+    public int getRecentLimit() {
+        return recentLimit;
+    }
+
+    public String getAdminType() {
+        return adminType;
+    }
+}
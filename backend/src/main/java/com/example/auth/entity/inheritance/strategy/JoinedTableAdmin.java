@@ -1,9 +1,12 @@
 package com.example.auth.entity.inheritance.strategy;
 
+import com.example.auth.permission.AdminPermission;
+import com.example.auth.permission.CompiledPermissions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -13,8 +16,9 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "joined_admins")
+@EntityListeners(AdminAccessLogListener.class)
 @PrimaryKeyJoinColumn(name = "person_id")
-public class JoinedTableAdmin extends JoinedTablePerson {
+public class JoinedTableAdmin extends JoinedTablePerson implements AccessAuditedAdmin {
     
     @NotNull
     @Size(max = 20)
@@ -64,17 +68,20 @@ public class JoinedTableAdmin extends JoinedTablePerson {
     @Column(name = "permission")
     private Set<String> permissions = new HashSet<>();
     
+    // Grant mask compiled from permissions on first check, invalidated on every change
+    @Transient
+    private final CompiledPermissions compiledPermissions = new CompiledPermissions();
+    
     @ElementCollection
     @CollectionTable(name = "joined_admin_managed_areas", 
                      joinColumns = @JoinColumn(name = "admin_id"))
     @Column(name = "managed_area")
     private Set<String> managedAreas = new HashSet<>();
     
-    @ElementCollection
-    @CollectionTable(name = "joined_admin_access_logs", 
-                     joinColumns = @JoinColumn(name = "admin_id"))
-    @Column(name = "access_log")
-    private Set<String> accessLogs = new HashSet<>();
+    // Access history goes to the append-only admin_access_logs table;
+    // only the last 10 entries are kept in memory
+    @Transient
+    private final AdminAccessTrail accessTrail = new AdminAccessTrail("JOINED_ADMIN", 10);
     
     // Default constructor
     public JoinedTableAdmin() {
@@ -94,6 +101,7 @@ public class JoinedTableAdmin extends JoinedTablePerson {
     }
     
     private void setDefaultPermissions() {
+        compiledPermissions.invalidate();
         permissions.clear();
         managedAreas.clear();
         
@@ -140,22 +148,23 @@ public class JoinedTableAdmin extends JoinedTablePerson {
     }
     
     public void logAccess(String action) {
-        String logEntry = LocalDateTime.now() + ": " + action;
-        accessLogs.add(logEntry);
-        // Keep only last 10 log entries
-        if (accessLogs.size() > 10) {
-            accessLogs.iterator().next();
-            accessLogs.remove(accessLogs.iterator().next());
-        }
+        accessTrail.record(getId(), action);
+    }
+    
+    @Override
+    public AdminAccessTrail accessTrail() {
+        return accessTrail;
     }
     
     public void addPermission(String permission) {
         permissions.add(permission);
+        compiledPermissions.invalidate();
         logAccess("PERMISSION_ADDED: " + permission);
     }
     
     public void removePermission(String permission) {
         permissions.remove(permission);
+        compiledPermissions.invalidate();
         logAccess("PERMISSION_REMOVED: " + permission);
     }
     
@@ -185,7 +194,11 @@ public class JoinedTableAdmin extends JoinedTablePerson {
     }
     
     public boolean hasPermission(String permission) {
-        return isSuperAdmin || permissions.contains(permission) || permissions.contains("ALL_PERMISSIONS");
+        return isSuperAdmin || compiledPermissions.grants(permissions, permission);
+    }
+    
+    public boolean hasPermission(AdminPermission permission) {
+        return isSuperAdmin || compiledPermissions.grants(permissions, permission);
     }
     
     public boolean canManageArea(String area) {
@@ -351,12 +364,13 @@ public class JoinedTableAdmin extends JoinedTablePerson {
     public LocalDateTime getLastPasswordChange() { return lastPasswordChange; }
     public void setLastPasswordChange(LocalDateTime lastPasswordChange) { this.lastPasswordChange = lastPasswordChange; }
     
-    public Set<String> getPermissions() { return permissions; }
-    public void setPermissions(Set<String> permissions) { this.permissions = permissions; }
+    public Set<String> getPermissions() { return Collections.unmodifiableSet(permissions); }
+    public void setPermissions(Set<String> permissions) { 
+        this.permissions = permissions;
+        compiledPermissions.invalidate();
+    }
     
     public Set<String> getManagedAreas() { return managedAreas; }
     public void setManagedAreas(Set<String> managedAreas) { this.managedAreas = managedAreas; }
     
-    public Set<String> getAccessLogs() { return accessLogs; }
-    public void setAccessLogs(Set<String> accessLogs) { this.accessLogs = accessLogs; }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.example.auth.entity.inheritance.strategy;
 
+import com.example.auth.permission.AdminPermission;
+import com.example.auth.permission.CompiledPermissions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -50,6 +53,10 @@ public class SingleTableAdmin extends SingleTablePerson {
     @Column(name = "permission")
     private Set<String> permissions = new HashSet<>();
     
+    // Grant mask compiled from permissions on first check, invalidated on every change
+    @Transient
+    private final CompiledPermissions compiledPermissions = new CompiledPermissions();
+    
     @ElementCollection
     @CollectionTable(name = "single_table_admin_managed_areas", 
                      joinColumns = @JoinColumn(name = "person_id"))
@@ -72,6 +79,7 @@ public class SingleTableAdmin extends SingleTablePerson {
     }
     
     private void setDefaultPermissions() {
+        compiledPermissions.invalidate();
         switch (adminLevel != null ? adminLevel.toUpperCase() : "USER") {
             case "SYSTEM":
                 isSuperAdmin = true;
@@ -103,10 +111,12 @@ public class SingleTableAdmin extends SingleTablePerson {
     
     public void addPermission(String permission) {
         permissions.add(permission);
+        compiledPermissions.invalidate();
     }
     
     public void removePermission(String permission) {
         permissions.remove(permission);
+        compiledPermissions.invalidate();
     }
     
     public void addManagedArea(String area) {
@@ -125,10 +135,15 @@ public class SingleTableAdmin extends SingleTablePerson {
         this.canViewReports = true;
         permissions.clear();
         permissions.addAll(Set.of("ALL_PERMISSIONS", "SYSTEM_CONFIG", "USER_MANAGEMENT", "CONTENT_MANAGEMENT", "REPORTING"));
+        compiledPermissions.invalidate();
     }
     
     public boolean hasPermission(String permission) {
-        return isSuperAdmin || permissions.contains(permission) || permissions.contains("ALL_PERMISSIONS");
+        return isSuperAdmin || compiledPermissions.grants(permissions, permission);
+    }
+    
+    public boolean hasPermission(AdminPermission permission) {
+        return isSuperAdmin || compiledPermissions.grants(permissions, permission);
     }
     
     public String getAdminStatus() {
@@ -245,8 +260,11 @@ public class SingleTableAdmin extends SingleTablePerson {
     public Boolean getCanViewReports() { return canViewReports; }
     public void setCanViewReports(Boolean canViewReports) { this.canViewReports = canViewReports; }
     
-    public Set<String> getPermissions() { return permissions; }
-    public void setPermissions(Set<String> permissions) { this.permissions = permissions; }
+    public Set<String> getPermissions() { return Collections.unmodifiableSet(permissions); }
+    public void setPermissions(Set<String> permissions) { 
+        this.permissions = permissions;
+        compiledPermissions.invalidate();
+    }
     
     public Set<String> getManagedAreas() { return managedAreas; }
     public void setManagedAreas(Set<String> managedAreas) { this.managedAreas = managedAreas; }
@@ -1,9 +1,12 @@
 package com.example.auth.entity.inheritance.strategy;
 
+import com.example.auth.permission.AdminPermission;
+import com.example.auth.permission.CompiledPermissions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -13,7 +16,8 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "table_per_class_admins")
-public class TablePerClassAdmin extends TablePerClassPerson {
+@EntityListeners(AdminAccessLogListener.class)
+public class TablePerClassAdmin extends TablePerClassPerson implements AccessAuditedAdmin {
     
     @NotNull
     @Size(max = 20)
@@ -75,17 +79,20 @@ public class TablePerClassAdmin extends TablePerClassPerson {
     @Column(name = "permission")
     private Set<String> permissions = new HashSet<>();
     
+    // Grant mask compiled from permissions on first check, invalidated on every change
+    @Transient
+    private final CompiledPermissions compiledPermissions = new CompiledPermissions();
+    
     @ElementCollection
     @CollectionTable(name = "table_per_class_admin_managed_areas", 
                      joinColumns = @JoinColumn(name = "admin_id"))
     @Column(name = "managed_area")
     private Set<String> managedAreas = new HashSet<>();
     
-    @ElementCollection
-    @CollectionTable(name = "table_per_class_admin_access_logs", 
-                     joinColumns = @JoinColumn(name = "admin_id"))
-    @Column(name = "access_log")
-    private Set<String> accessLogs = new HashSet<>();
+    // Access history goes to the append-only admin_access_logs table;
+    // only the last 20 entries are kept in memory
+    @Transient
+    private final AdminAccessTrail accessTrail = new AdminAccessTrail("TABLE_PER_CLASS_ADMIN", 20);
     
     @ElementCollection
     @CollectionTable(name = "table_per_class_admin_ip_whitelist", 
@@ -111,6 +118,7 @@ public class TablePerClassAdmin extends TablePerClassPerson {
     }
     
     private void setDefaultPermissions() {
+        compiledPermissions.invalidate();
         permissions.clear();
         managedAreas.clear();
         
@@ -199,22 +207,23 @@ public class TablePerClassAdmin extends TablePerClassPerson {
     }
     
     public void logAccess(String action) {
-        String logEntry = LocalDateTime.now() + ": " + action;
-        accessLogs.add(logEntry);
-        // Keep only last 20 log entries for table per class (more storage)
-        if (accessLogs.size() > 20) {
-            accessLogs.iterator().next();
-            accessLogs.remove(accessLogs.iterator().next());
-        }
+        accessTrail.record(getId(), action);
+    }
+    
+    @Override
+    public AdminAccessTrail accessTrail() {
+        return accessTrail;
     }
     
     public void addPermission(String permission) {
         permissions.add(permission);
+        compiledPermissions.invalidate();
         logAccess("PERMISSION_ADDED: " + permission);
     }
     
     public void removePermission(String permission) {
         permissions.remove(permission);
+        compiledPermissions.invalidate();
         logAccess("PERMISSION_REMOVED: " + permission);
     }
     
@@ -266,7 +275,11 @@ public class TablePerClassAdmin extends TablePerClassPerson {
     }
     
     public boolean hasPermission(String permission) {
-        return isSuperAdmin || permissions.contains(permission) || permissions.contains("ALL_PERMISSIONS");
+        return isSuperAdmin || compiledPermissions.grants(permissions, permission);
+    }
+    
+    public boolean hasPermission(AdminPermission permission) {
+        return isSuperAdmin || compiledPermissions.grants(permissions, permission);
     }
     
     public boolean canManageArea(String area) {
@@ -492,15 +505,15 @@ public class TablePerClassAdmin extends TablePerClassPerson {
     public Boolean getTwoFactorEnabled() { return twoFactorEnabled; }
     public void setTwoFactorEnabled(Boolean twoFactorEnabled) { this.twoFactorEnabled = twoFactorEnabled; }
     
-    public Set<String> getPermissions() { return permissions; }
-    public void setPermissions(Set<String> permissions) { this.permissions = permissions; }
+    public Set<String> getPermissions() { return Collections.unmodifiableSet(permissions); }
+    public void setPermissions(Set<String> permissions) { 
+        this.permissions = permissions;
+        compiledPermissions.invalidate();
+    }
     
     public Set<String> getManagedAreas() { return managedAreas; }
     public void setManagedAreas(Set<String> managedAreas) { this.managedAreas = managedAreas; }
     
-    public Set<String> getAccessLogs() { return accessLogs; }
-    public void setAccessLogs(Set<String> accessLogs) { this.accessLogs = accessLogs; }
-    
     public Set<String> getAllowedIpAddresses() { return allowedIpAddresses; }
     public void setAllowedIpAddresses(Set<String> allowedIpAddresses) { this.allowedIpAddresses = allowedIpAddresses; }
 }
\ No newline at end of file
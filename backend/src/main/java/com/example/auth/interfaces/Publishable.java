@@ -1,5 +1,8 @@
 package com.example.auth.interfaces;
 
+import com.example.auth.permission.DocumentType;
+import com.example.auth.permission.PermissionRegistry;
+
 /**
  * Interface demonstrating publishing capability
  * Committee members and senior users can publish documents
@@ -47,13 +50,26 @@ public interface Publishable extends Writable {
      * @return true if user can publish this type
      */
     default boolean canPublish(String documentType) {
-        String[] publishableTypes = getPublishableDocumentTypes();
-        for (String type : publishableTypes) {
-            if (type.equalsIgnoreCase(documentType)) {
-                return true;
-            }
-        }
-        return false;
+        DocumentType type = PermissionRegistry.documentType(documentType);
+        return type != null && canPublish(type);
+    }
+    
+    /**
+     * Check if user can publish a specific document type with a single bitwise test
+     * @param documentType the type of document
+     * @return true if user can publish this type
+     */
+    default boolean canPublish(DocumentType documentType) {
+        return PermissionRegistry.grants(getPublishableTypeMask(), documentType);
+    }
+    
+    /**
+     * Get publishable document types compiled to a bitmask.
+     * Implementations should return a precompiled constant; the default compiles on every call.
+     * @return bitmask of DocumentType bits this user can publish
+     */
+    default long getPublishableTypeMask() {
+        return PermissionRegistry.documentTypeMask(getPublishableDocumentTypes());
     }
     
     /**
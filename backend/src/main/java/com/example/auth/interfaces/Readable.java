@@ -1,5 +1,8 @@
 package com.example.auth.interfaces;
 
+import com.example.auth.permission.DocumentType;
+import com.example.auth.permission.PermissionRegistry;
+
 /**
  * Interface demonstrating basic capability - reading documents
  * All users should be able to read documents
@@ -25,13 +28,26 @@ public interface Readable {
      * @return true if user can read this type
      */
     default boolean canRead(String documentType) {
-        String[] readableTypes = getReadableDocumentTypes();
-        for (String type : readableTypes) {
-            if (type.equalsIgnoreCase(documentType)) {
-                return true;
-            }
-        }
-        return false;
+        DocumentType type = PermissionRegistry.documentType(documentType);
+        return type != null && canRead(type);
+    }
+    
+    /**
+     * Check if user can read a specific document type with a single bitwise test
+     * @param documentType the type of document
+     * @return true if user can read this type
+     */
+    default boolean canRead(DocumentType documentType) {
+        return PermissionRegistry.grants(getReadableTypeMask(), documentType);
+    }
+    
+    /**
+     * Get readable document types compiled to a bitmask.
+     * Implementations should return a precompiled constant; the default compiles on every call.
+     * @return bitmask of DocumentType bits this user can read
+     */
+    default long getReadableTypeMask() {
+        return PermissionRegistry.documentTypeMask(getReadableDocumentTypes());
     }
     
     /**
@@ -1,5 +1,8 @@
 package com.example.auth.interfaces;
 
+import com.example.auth.permission.DocumentType;
+import com.example.auth.permission.PermissionRegistry;
+
 /**
  * Interface demonstrating writing capability
  * Authors and some advanced users can write documents
@@ -41,13 +44,26 @@ public interface Writable extends Readable {
      * @return true if user can write this type
      */
     default boolean canWrite(String documentType) {
-        String[] writableTypes = getWritableDocumentTypes();
-        for (String type : writableTypes) {
-            if (type.equalsIgnoreCase(documentType)) {
-                return true;
-            }
-        }
-        return false;
+        DocumentType type = PermissionRegistry.documentType(documentType);
+        return type != null && canWrite(type);
+    }
+    
+    /**
+     * Check if user can write a specific document type with a single bitwise test
+     * @param documentType the type of document
+     * @return true if user can write this type
+     */
+    default boolean canWrite(DocumentType documentType) {
+        return PermissionRegistry.grants(getWritableTypeMask(), documentType);
+    }
+    
+    /**
+     * Get writable document types compiled to a bitmask.
+     * Implementations should return a precompiled constant; the default compiles on every call.
+     * @return bitmask of DocumentType bits this user can write
+     */
+    default long getWritableTypeMask() {
+        return PermissionRegistry.documentTypeMask(getWritableDocumentTypes());
     }
     
     /**
@@ -0,0 +1,30 @@
+package com.example.auth.permission;
+
+/**
+ * Named admin permissions. Each constant owns one bit of a long grant mask
+ * (see PermissionRegistry); ALL_PERMISSIONS grants every other bit.
+ */
+public enum AdminPermission {
+    ALL_PERMISSIONS,
+    BASIC_ADMIN,
+    SYSTEM_CONFIG,
+    USER_MANAGEMENT,
+    CONTENT_MANAGEMENT,
+    REPORTING,
+    PAPER_APPROVAL,
+    PAPER_REVIEW,
+    DATABASE_ACCESS,
+    SECURITY_SETTINGS,
+    AUDIT_LOGS,
+    DEPARTMENT_MANAGEMENT,
+    DEPARTMENT_SETTINGS,
+    CONTENT_REVIEW,
+    CONTENT_PUBLISHING,
+    CONTENT_ANALYTICS;
+
+    private final long bit = 1L << ordinal();
+
+    public long bit() {
+        return bit;
+    }
+}
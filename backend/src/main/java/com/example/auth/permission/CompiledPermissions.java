@@ -0,0 +1,42 @@
+package com.example.auth.permission;
+
+import java.util.Set;
+
+/**
+ * Lazily compiled grant mask for an admin's stored permission names.
+ * Admin entities hold one as a @Transient field and invalidate it whenever
+ * their permission set changes.
+ */
+public class CompiledPermissions {
+
+    private long mask;
+    private boolean compiled;
+
+    public boolean grants(Set<String> permissions, AdminPermission permission) {
+        return PermissionRegistry.grants(mask(permissions), permission);
+    }
+
+    /**
+     * Check a permission by name, falling back to the stored set for names
+     * that are not part of the registry
+     */
+    public boolean grants(Set<String> permissions, String permission) {
+        AdminPermission known = PermissionRegistry.permission(permission);
+        if (known != null) {
+            return grants(permissions, known);
+        }
+        return permissions.contains(permission) || grants(permissions, AdminPermission.ALL_PERMISSIONS);
+    }
+
+    public void invalidate() {
+        compiled = false;
+    }
+
+    private long mask(Set<String> permissions) {
+        if (!compiled) {
+            mask = PermissionRegistry.permissionMask(permissions);
+            compiled = true;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.auth.permission;
+
+/**
+ * Document types that can be granted for reading, writing or publishing.
+ * Each constant owns one bit of a long grant mask (see PermissionRegistry).
+ */
+public enum DocumentType {
+    RESEARCH_PAPER,
+    POLICY_DOCUMENT,
+    TEXTBOOK,
+    ASSIGNMENT,
+    SYLLABUS,
+    ANNOUNCEMENT,
+    THESIS,
+    GRANT_PROPOSAL,
+    MEETING_MINUTES,
+    EXAM,
+    LECTURE_NOTES,
+    REVIEW,
+    FINANCIAL_REPORT,
+    USER_DATA,
+    SYSTEM_LOGS,
+    CONFIDENTIAL,
+    DIRECTIVE,
+    SYSTEM_NOTICE,
+    REGULATION,
+    REPORT,
+    NOTICE;
+
+    private final long bit = 1L << ordinal();
+
+    public long bit() {
+        return bit;
+    }
+}
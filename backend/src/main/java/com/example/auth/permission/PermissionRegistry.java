@@ -0,0 +1,81 @@
+package com.example.auth.permission;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiles permission and document type names to enum bits once, so that
+ * authorization checks become a single bitwise AND on a precompiled long mask.
+ *
+ * Name lookups are case-insensitive and do not allocate.
+ */
+public final class PermissionRegistry {
+
+    private static final Map<String, DocumentType> DOCUMENT_TYPES = index(DocumentType.values());
+    private static final Map<String, AdminPermission> PERMISSIONS = index(AdminPermission.values());
+
+    private PermissionRegistry() {
+    }
+
+    /**
+     * @return the document type for a name such as "research_paper", or null if unknown
+     */
+    public static DocumentType documentType(String name) {
+        return name != null ? DOCUMENT_TYPES.get(name) : null;
+    }
+
+    /**
+     * @return the admin permission for a name such as "USER_MANAGEMENT", or null if unknown
+     */
+    public static AdminPermission permission(String name) {
+        return name != null ? PERMISSIONS.get(name) : null;
+    }
+
+    /**
+     * Compile document type names to a grant mask. Unknown names are rejected so a typo in
+     * a hard-coded grant list fails at class initialization instead of silently denying access.
+     */
+    public static long documentTypeMask(String... names) {
+        long mask = 0L;
+        for (String name : names) {
+            DocumentType type = documentType(name);
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown document type: " + name);
+            }
+            mask |= type.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * Compile stored permission names to a grant mask. Free-text names outside the
+     * registry are skipped; callers still check those against the original set.
+     */
+    public static long permissionMask(Collection<String> names) {
+        long mask = 0L;
+        for (String name : names) {
+            AdminPermission permission = permission(name);
+            if (permission != null) {
+                mask |= permission.bit();
+            }
+        }
+        return mask;
+    }
+
+    public static boolean grants(long mask, DocumentType type) {
+        return (mask & type.bit()) != 0;
+    }
+
+    public static boolean grants(long mask, AdminPermission permission) {
+        return (mask & (permission.bit() | AdminPermission.ALL_PERMISSIONS.bit())) != 0;
+    }
+
+    private static <E extends Enum<E>> Map<String, E> index(E[] values) {
+        Map<String, E> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (E value : values) {
+            map.put(value.name(), value);
+        }
+        return map;
+    }
+}
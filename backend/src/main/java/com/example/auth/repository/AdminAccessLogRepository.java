@@ -0,0 +1,20 @@
+package com.example.auth.repository;
+
+import com.example.auth.entity.AdminAccessLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AdminAccessLogRepository extends JpaRepository<AdminAccessLog, Long> {
+    List<AdminAccessLog> findTop20ByAdminTypeAndAdminIdOrderByOccurredAtDesc(String adminType, Long adminId);
+
+    // Bulk delete used by the retention job; never loads the rows
+    @Modifying
+    @Query("DELETE FROM AdminAccessLog l WHERE l.occurredAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
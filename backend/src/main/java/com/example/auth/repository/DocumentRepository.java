@@ -0,0 +1,44 @@
+package com.example.auth.repository;
+
+import com.example.auth.dto.DocumentListing;
+import com.example.auth.entity.inheritance.AbstractDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DocumentRepository extends JpaRepository<AbstractDocument, Long> {
+
+    // Reads only the precomputed statistics columns, never the TEXT content
+    @Query("SELECT new com.example.auth.dto.DocumentListing(d.id, TYPE(d), d.title, d.authorName, d.isPublished, " +
+           "d.wordCount, d.readingTimeMinutes, d.contentSummary, d.viewCount, d.createdAt) " +
+           "FROM AbstractDocument d ORDER BY d.createdAt DESC")
+    List<DocumentListing> findAllListings();
+
+    @Query("SELECT new com.example.auth.dto.DocumentListing(d.id, TYPE(d), d.title, d.authorName, d.isPublished, " +
+           "d.wordCount, d.readingTimeMinutes, d.contentSummary, d.viewCount, d.createdAt) " +
+           "FROM AbstractDocument d WHERE d.isPublished = true ORDER BY d.publishedAt DESC")
+    List<DocumentListing> findPublishedListings();
+
+    @Query("SELECT new com.example.auth.dto.DocumentListing(d.id, TYPE(d), d.title, d.authorName, d.isPublished, " +
+           "d.wordCount, d.readingTimeMinutes, d.contentSummary, d.viewCount, d.createdAt) " +
+           "FROM AbstractDocument d WHERE d.id = :id")
+    Optional<DocumentListing> findListingById(@Param("id") Long id);
+
+    // Returns ResearchPaper and PolicyDocument hits together without touching their element collections
+    @Query("SELECT new com.example.auth.dto.DocumentListing(d.id, TYPE(d), d.title, d.authorName, d.isPublished, " +
+           "d.wordCount, d.readingTimeMinutes, d.contentSummary, d.viewCount, d.createdAt) " +
+           "FROM AbstractDocument d WHERE d.id IN :ids ORDER BY d.viewCount DESC")
+    List<DocumentListing> findListingsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT d.id FROM AbstractDocument d JOIN d.keywords k WHERE k = :keyword")
+    List<Long> findIdsByKeyword(@Param("keyword") String keyword);
+
+    // (document id, keyword) pairs used to build the in-memory keyword index
+    @Query("SELECT d.id, k FROM AbstractDocument d JOIN d.keywords k")
+    List<Object[]> findAllKeywordPairs();
+}
@@ -2,11 +2,18 @@ package com.example.auth.repository;
 
 import com.example.auth.entity.Paper;
 import com.example.auth.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaperRepository extends JpaRepository<Paper, Long> {
@@ -16,9 +23,98 @@ public interface PaperRepository extends JpaRepository<Paper, Long> {
     @Query("SELECT p FROM Paper p WHERE p.title LIKE %:keyword% OR p.abstractText LIKE %:keyword%")
     List<Paper> searchByKeyword(@Param("keyword") String keyword);
     
+    /**
+     * PostgreSQL only: ranked full-text search over the search_vector column maintained by
+     * PostgresFullTextSearchStrategy. Uses the GIN index idx_papers_search_vector.
+     */
+    @Query(value = "SELECT p.* FROM papers p, websearch_to_tsquery('english', :query) q " +
+                   "WHERE p.search_vector @@ q ORDER BY ts_rank(p.search_vector, q) DESC, p.id",
+           nativeQuery = true)
+    List<Paper> fullTextSearch(@Param("query") String query);
+    
     @Query("SELECT p FROM Paper p WHERE p.publicationDate IS NOT NULL ORDER BY p.publicationDate DESC")
     List<Paper> findPublishedPapersOrderByDate();
     
     @Query("SELECT p FROM Paper p WHERE p.publicationDate IS NULL")
     List<Paper> findUnpublishedPapers();
+
+    @Query("SELECT p.id, p.title FROM Paper p")
+    List<Object[]> findAllIdAndTitle();
+
+    /**
+     * (paper id, title, author username, publication date) for building the suggestion trie
+     */
+    @Query("SELECT p.id, p.title, a.username, p.publicationDate FROM Paper p LEFT JOIN p.author a")
+    List<Object[]> findSuggestionRows();
+
+    @Query("SELECT p.id, t.name FROM Paper p JOIN p.tags t")
+    List<Object[]> findAllPaperTagNames();
+
+    /**
+     * (paper id, tag name) pairs for the given papers
+     */
+    @Query("SELECT p.id, t.name FROM Paper p JOIN p.tags t WHERE p.id IN :ids")
+    List<Object[]> findPaperTagNamesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * (paper id, author username) pairs for the given papers
+     */
+    @Query("SELECT p.id, a.username FROM Paper p JOIN p.author a WHERE p.id IN :ids")
+    List<Object[]> findAuthorUsernamesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Next page of papers changed at or after a (updatedAt, id) position, for the search index
+     */
+    @Query("SELECT p FROM Paper p WHERE p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :afterId) " +
+           "ORDER BY p.updatedAt, p.id")
+    List<Paper> findUpdatedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p FROM Paper p WHERE p.id > :afterId ORDER BY p.id")
+    List<Paper> findPageAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT MAX(p.updatedAt) FROM Paper p")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * (paper id, author id) pairs for the given authors
+     */
+    @Query("SELECT p.id, p.author.id FROM Paper p WHERE p.author.id IN :authorIds")
+    List<Object[]> findIdsByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    /**
+     * (paper id, tag id) pairs for papers carrying any of the given tags
+     */
+    @Query("SELECT p.id, t.id FROM Paper p JOIN p.tags t WHERE t.id IN :tagIds")
+    List<Object[]> findIdsByTagIds(@Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * Dashboard rows, newest first: id, title, abstract, first 200 characters of the content,
+     * author username, publishing committee username, publication date, created date, author id
+     */
+    @Query("SELECT p.id, p.title, p.abstractText, SUBSTRING(p.content, 1, 200), a.username, c.username, " +
+           "p.publicationDate, p.createdAt, a.id FROM Paper p LEFT JOIN p.author a LEFT JOIN p.publishedByCommittee c " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Object[]> findSummaryRows();
+
+    @Query("SELECT p.id, p.title, p.abstractText, SUBSTRING(p.content, 1, 200), a.username, c.username, " +
+           "p.publicationDate, p.createdAt, a.id FROM Paper p JOIN p.author a LEFT JOIN p.publishedByCommittee c " +
+           "WHERE a.username = :username ORDER BY p.createdAt DESC, p.id DESC")
+    List<Object[]> findSummaryRowsByAuthor(@Param("username") String username);
+
+    @Query("SELECT p.id, t.name FROM Paper p JOIN p.tags t WHERE p.author.username = :username")
+    List<Object[]> findPaperTagNamesByAuthor(@Param("username") String username);
+
+    @Query("SELECT COUNT(p) FROM Paper p WHERE p.publishedByCommittee.username = :username")
+    long countPublishedByCommittee(@Param("username") String username);
+
+    /**
+     * Rows for the CSV export: id, title, author username, publication date, created date.
+     * Streamed with a cursor so the export never holds the whole table in memory.
+     */
+    @Query("SELECT p.id, p.title, a.username, p.publicationDate, p.createdAt FROM Paper p LEFT JOIN p.author a ORDER BY p.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamExportRows();
 }
@@ -2,11 +2,18 @@ package com.example.auth.repository;
 
 import com.example.auth.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
     boolean existsByName(String name);
+    List<Tag> findByNameIn(Collection<String> names);
+
+    @Query("SELECT t.id, t.name FROM Tag t")
+    List<Object[]> findAllIdAndName();
 }
@@ -1,9 +1,20 @@
 package com.example.auth.repository;
 
+import com.example.auth.entity.RoleName;
 import com.example.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +22,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    @Query("SELECT u.id, u.username FROM User u")
+    List<Object[]> findAllIdAndUsername();
+
+    /**
+     * Usernames or emails that clash with a signup, in one round trip
+     */
+    @Query("SELECT u.username, u.email FROM User u WHERE u.username = :username OR u.email = :email")
+    List<Object[]> findUsernameOrEmailMatches(@Param("username") String username, @Param("email") String email);
+
+    @Query("SELECT u.username, u.email FROM User u")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamUsernamesAndEmails();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    @Query("SELECT r.name FROM User u JOIN u.role r WHERE u.username = :username")
+    Optional<RoleName> findRoleNameByUsername(@Param("username") String username);
 }
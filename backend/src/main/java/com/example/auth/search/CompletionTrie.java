@@ -0,0 +1,198 @@
+package com.example.auth.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Weighted prefix completion over a compressed (radix) trie.
+ *
+ * Every node caches the top completions of its subtree, so a lookup is a walk down the
+ * prefix followed by returning a precomputed list; it never visits the subtree. Updates
+ * adjust a weight and refresh the cached lists along one root-to-leaf path.
+ *
+ * Updates are serialized; lookups take no lock and see either the old or the new list.
+ */
+public class CompletionTrie {
+
+    public enum Kind {
+        TITLE, TAG, AUTHOR
+    }
+
+    /**
+     * A completion: the text to show, where it came from and how popular it is
+     */
+    public record Completion(String text, Kind kind, long weight) {
+    }
+
+    private static final Comparator<Completion> BY_WEIGHT =
+            Comparator.comparingLong(Completion::weight).reversed()
+                    .thenComparing(Completion::text)
+                    .thenComparing(Completion::kind);
+
+    private static final class Node {
+        String label;
+        final Map<Character, Node> children = new ConcurrentHashMap<>();
+        // Entries ending at this node, one per kind (a word can be both a title token and a tag)
+        final Map<Kind, Completion> entries = new ConcurrentHashMap<>(2);
+        volatile List<Completion> top = Collections.emptyList();
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private final int topN;
+    private final Node root = new Node("");
+    private int size;
+
+    public CompletionTrie(int topN) {
+        this.topN = topN;
+    }
+
+    /**
+     * @return up to limit completions starting with the prefix, most popular first
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty()) return Collections.emptyList();
+        String remaining = prefix;
+        Node node = root;
+        while (!remaining.isEmpty()) {
+            Node child = node.children.get(remaining.charAt(0));
+            if (child == null) return Collections.emptyList();
+            String label = child.label;
+            if (label.startsWith(remaining)) {
+                // The prefix ends inside (or at the end of) this edge
+                node = child;
+                break;
+            }
+            if (!remaining.startsWith(label)) return Collections.emptyList();
+            remaining = remaining.substring(label.length());
+            node = child;
+        }
+        List<Completion> top = node.top;
+        return top.size() > limit ? top.subList(0, limit) : top;
+    }
+
+    /**
+     * Add delta to the weight of (key, kind), creating the entry if needed and removing it
+     * when its weight drops to zero or below
+     *
+     * @param key     lower-case lookup key
+     * @param display text returned to callers
+     */
+    public synchronized void adjust(String key, String display, Kind kind, long delta) {
+        if (key == null || key.isEmpty() || delta == 0) return;
+
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = insertPath(key, path);
+
+        Completion current = node.entries.get(kind);
+        long weight = (current != null ? current.weight() : 0) + delta;
+        if (weight > 0) {
+            node.entries.put(kind, new Completion(current != null ? current.text() : display, kind, weight));
+            if (current == null) size++;
+        } else if (current != null) {
+            node.entries.remove(kind);
+            size--;
+        }
+
+        refreshPath(path);
+    }
+
+    public synchronized void clear() {
+        root.children.clear();
+        root.entries.clear();
+        root.top = Collections.emptyList();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Walk to the node for key, splitting edges and adding nodes as needed.
+     * Every node from the root to the result is pushed onto path.
+     */
+    private Node insertPath(String key, Deque<Node> path) {
+        Node node = root;
+        path.push(node);
+        String remaining = key;
+        while (!remaining.isEmpty()) {
+            char first = remaining.charAt(0);
+            Node child = node.children.get(first);
+            if (child == null) {
+                Node leaf = new Node(remaining);
+                node.children.put(first, leaf);
+                path.push(leaf);
+                return leaf;
+            }
+
+            int common = commonPrefixLength(child.label, remaining);
+            if (common < child.label.length()) {
+                // Split the edge; the new middle node is fully built before it becomes visible
+                Node middle = new Node(child.label.substring(0, common));
+                Node lower = new Node(child.label.substring(common));
+                lower.children.putAll(child.children);
+                lower.entries.putAll(child.entries);
+                lower.top = child.top;
+                middle.children.put(lower.label.charAt(0), lower);
+                middle.top = child.top;
+                node.children.put(first, middle);
+                child = middle;
+            }
+            remaining = remaining.substring(common);
+            node = child;
+            path.push(node);
+        }
+        return node;
+    }
+
+    /**
+     * Recompute cached top lists bottom-up, dropping nodes left with neither entries nor
+     * children and merging single-child nodes without entries into their child
+     */
+    private void refreshPath(Deque<Node> path) {
+        Node below = null;
+        while (!path.isEmpty()) {
+            Node node = path.pop();
+            if (below != null && below.entries.isEmpty()) {
+                Character key = below.label.charAt(0);
+                if (below.children.isEmpty()) {
+                    node.children.remove(key);
+                } else if (below.children.size() == 1) {
+                    Node only = below.children.values().iterator().next();
+                    Node merged = new Node(below.label + only.label);
+                    merged.children.putAll(only.children);
+                    merged.entries.putAll(only.entries);
+                    merged.top = only.top;
+                    node.children.put(key, merged);
+                }
+            }
+            node.top = computeTop(node);
+            below = node;
+        }
+    }
+
+    private List<Completion> computeTop(Node node) {
+        List<Completion> candidates = new ArrayList<>(node.entries.values());
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(BY_WEIGHT);
+        return List.copyOf(candidates.size() > topN ? candidates.subList(0, topN) : candidates);
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.Paper;
+import com.example.auth.repository.PaperRepository;
+import com.example.auth.repository.TagRepository;
+import com.example.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typo-tolerant paper search over trigram indexes of paper titles, author usernames
+ * and tag names.
+ *
+ * The indexes are built once at startup and kept current by FuzzySearchIndexListener.
+ * A paper scores the best of its title, author and tag similarities.
+ */
+@Service
+public class FuzzySearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuzzySearchService.class);
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Value("${app.search.fuzzy.default-threshold:0.5}")
+    private double defaultThreshold;
+
+    @Value("${app.search.fuzzy.max-results:50}")
+    private int maxResults;
+
+    private final TrigramIndex paperTitles = new TrigramIndex();
+    private final TrigramIndex usernames = new TrigramIndex();
+    private final TrigramIndex tagNames = new TrigramIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("Building fuzzy search indexes");
+        load(paperTitles, paperRepository.findAllIdAndTitle());
+        load(usernames, userRepository.findAllIdAndUsername());
+        load(tagNames, tagRepository.findAllIdAndName());
+        logger.info("Fuzzy search indexes built: {} titles, {} usernames, {} tags",
+                   paperTitles.size(), usernames.size(), tagNames.size());
+    }
+
+    public void indexPaperTitle(Long paperId, String title) {
+        paperTitles.put(paperId, title);
+    }
+
+    public void removePaper(Long paperId) {
+        paperTitles.remove(paperId);
+    }
+
+    public void indexUsername(Long userId, String username) {
+        usernames.put(userId, username);
+    }
+
+    public void removeUser(Long userId) {
+        usernames.remove(userId);
+    }
+
+    public void indexTagName(Long tagId, String name) {
+        tagNames.put(tagId, name);
+    }
+
+    public void removeTag(Long tagId) {
+        tagNames.remove(tagId);
+    }
+
+    /**
+     * Papers whose title, author username or tag approximately matches the query, best first.
+     *
+     * @param threshold minimum similarity between 0 and 1, or null for the configured default
+     */
+    @Transactional(readOnly = true)
+    public List<Paper> search(String query, Double threshold) {
+        double minScore = threshold != null ? threshold : defaultThreshold;
+        logger.debug("Fuzzy search for '{}' with threshold {}", query, minScore);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (TrigramIndex.Match match : paperTitles.search(query, minScore, maxResults)) {
+            scores.merge(match.id(), match.score(), Math::max);
+        }
+        mergeRelated(scores, usernames.search(query, minScore, maxResults), true);
+        mergeRelated(scores, tagNames.search(query, minScore, maxResults), false);
+        if (scores.isEmpty()) return Collections.emptyList();
+
+        List<Paper> papers = new ArrayList<>(paperRepository.findAllById(scores.keySet()));
+        papers.sort(Comparator.comparing((Paper p) -> scores.get(p.getId())).reversed()
+                .thenComparing(Paper::getId));
+        List<Paper> results = papers.size() > maxResults ? papers.subList(0, maxResults) : papers;
+        logger.debug("Fuzzy search for '{}' found {} papers", query, results.size());
+        return results;
+    }
+
+    /**
+     * Give each paper of a matched author (or tag) that author's (or tag's) score
+     */
+    private void mergeRelated(Map<Long, Double> scores, List<TrigramIndex.Match> matches, boolean byAuthor) {
+        if (matches.isEmpty()) return;
+        Map<Long, Double> scoreById = new HashMap<>();
+        for (TrigramIndex.Match match : matches) {
+            scoreById.put(match.id(), match.score());
+        }
+        List<Object[]> pairs = byAuthor
+                ? paperRepository.findIdsByAuthorIds(scoreById.keySet())
+                : paperRepository.findIdsByTagIds(scoreById.keySet());
+        for (Object[] pair : pairs) {
+            scores.merge((Long) pair[0], scoreById.get((Long) pair[1]), Math::max);
+        }
+    }
+
+    private static void load(TrigramIndex index, List<Object[]> rows) {
+        index.clear();
+        for (Object[] row : rows) {
+            index.put((Long) row[0], (String) row[1]);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.Paper;
+import com.example.auth.repository.PaperRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Portable substring match over title and abstract. Works on every database
+ * (including H2) but cannot use an index.
+ */
+@Component
+public class LikePaperSearchStrategy implements PaperSearchStrategy {
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Override
+    public String getName() {
+        return "like";
+    }
+
+    @Override
+    public List<Paper> search(String query) {
+        return paperRepository.searchByKeyword(query);
+    }
+}
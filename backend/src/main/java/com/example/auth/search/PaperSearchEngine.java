@@ -0,0 +1,93 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.Paper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Chooses the paper search strategy once the schema exists.
+ *
+ * app.search.strategy=auto uses Postgres full-text search when connected to PostgreSQL,
+ * otherwise the on-disk segment index when app.search.index.enabled=true, otherwise the
+ * LIKE query; "fulltext", "segments" or "like" force a strategy. Until the choice is
+ * made (e.g. during data seeding) searches use LIKE.
+ */
+@Component
+public class PaperSearchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaperSearchEngine.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private LikePaperSearchStrategy likeStrategy;
+
+    @Autowired
+    private PostgresFullTextSearchStrategy fullTextStrategy;
+
+    @Autowired
+    private SegmentIndexSearchStrategy segmentIndexStrategy;
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean segmentIndexEnabled;
+
+    @Value("${app.search.strategy:auto}")
+    private String configuredStrategy;
+
+    private volatile PaperSearchStrategy activeStrategy;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void selectStrategy() {
+        boolean auto = "auto".equalsIgnoreCase(configuredStrategy);
+        boolean postgres = auto && isPostgres();
+        PaperSearchStrategy selected = likeStrategy;
+
+        if ("fulltext".equalsIgnoreCase(configuredStrategy) || postgres) {
+            if (fullTextStrategy.initialize()) {
+                selected = fullTextStrategy;
+            } else {
+                logger.warn("Full-text search unavailable, falling back to LIKE search");
+            }
+        } else if ("segments".equalsIgnoreCase(configuredStrategy) || (auto && segmentIndexEnabled)) {
+            if (segmentIndexStrategy.initialize()) {
+                selected = segmentIndexStrategy;
+            } else {
+                logger.warn("Search index unavailable, falling back to LIKE search");
+            }
+        }
+        activeStrategy = selected;
+        logger.info("Paper search strategy: {}", selected.getName());
+    }
+
+    public List<Paper> search(String query) {
+        PaperSearchStrategy strategy = activeStrategy;
+        return (strategy != null ? strategy : likeStrategy).search(query);
+    }
+
+    public String getActiveStrategyName() {
+        PaperSearchStrategy strategy = activeStrategy;
+        return (strategy != null ? strategy : likeStrategy).getName();
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            logger.warn("Could not determine database product: {}", e.getMessage());
+            return false;
+        }
+    }
+}
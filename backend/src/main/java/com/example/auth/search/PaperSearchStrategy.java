@@ -0,0 +1,31 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.Paper;
+
+import java.util.List;
+
+/**
+ * A way of answering a paper keyword search. PaperSearchEngine picks the best
+ * strategy the connected database supports.
+ */
+public interface PaperSearchStrategy {
+
+    /**
+     * @return a short name for logs, e.g. "postgres-fulltext"
+     */
+    String getName();
+
+    /**
+     * Prepare any schema objects the strategy needs.
+     *
+     * @return false if the strategy cannot be used on this database
+     */
+    default boolean initialize() {
+        return true;
+    }
+
+    /**
+     * @return papers matching the query, best match first
+     */
+    List<Paper> search(String query);
+}
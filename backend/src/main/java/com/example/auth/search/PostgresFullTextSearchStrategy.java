@@ -0,0 +1,56 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.Paper;
+import com.example.auth.repository.PaperRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostgreSQL full-text search: a stored generated tsvector column over title (weight A),
+ * abstract (B) and content (C), a GIN index on it, websearch_to_tsquery parsing
+ * ("quoted phrases", OR, -excluded) and ts_rank ordering.
+ */
+@Component
+public class PostgresFullTextSearchStrategy implements PaperSearchStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresFullTextSearchStrategy.class);
+
+    // Created by migration V3 (db/migration/postgresql); fails if the column is missing
+    private static final String CHECK_SEARCH_VECTOR = "SELECT search_vector FROM papers WHERE 1 = 0";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Override
+    public String getName() {
+        return "postgres-fulltext";
+    }
+
+    /**
+     * The column is not mapped on Paper, so schema validation does not cover it; check it here
+     */
+    @Override
+    public boolean initialize() {
+        try {
+            jdbcTemplate.execute(CHECK_SEARCH_VECTOR);
+            return true;
+        } catch (DataAccessException e) {
+            logger.warn("Full-text search column missing (migration V3 not applied?): {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Paper> search(String query) {
+        return paperRepository.fullTextSearch(query);
+    }
+}
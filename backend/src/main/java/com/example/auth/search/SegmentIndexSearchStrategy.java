@@ -0,0 +1,71 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.Paper;
+import com.example.auth.repository.PaperRepository;
+import com.example.auth.search.index.PaperIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked word search over the on-disk PaperIndex, for databases without native full-text
+ * search. Every query word must occur in the title, abstract or content; results lag
+ * writes by at most one index refresh interval.
+ */
+@Component
+public class SegmentIndexSearchStrategy implements PaperSearchStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentIndexSearchStrategy.class);
+
+    @Autowired
+    private PaperIndex paperIndex;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Value("${app.search.index.max-results:100}")
+    private int maxResults;
+
+    @Override
+    public String getName() {
+        return "segment-index";
+    }
+
+    @Override
+    public boolean initialize() {
+        try {
+            paperIndex.open();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not open search index: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Paper> search(String query) {
+        List<Long> ids = paperIndex.search(query, maxResults);
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        Map<Long, Paper> papers = new HashMap<>();
+        for (Paper paper : paperRepository.findAllById(ids)) {
+            papers.put(paper.getId(), paper);
+        }
+        List<Paper> ranked = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Paper paper = papers.get(id);
+            // A paper deleted since the last refresh is simply skipped
+            if (paper != null) ranked.add(paper);
+        }
+        return ranked;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.OutboxEvent;
+import com.example.auth.service.OutboxConsumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Builds highlighted fragments of a paper's content around query hits.
+ *
+ * Term offsets are computed once per paper version (id + updatedAt) and kept in a bounded
+ * LRU cache, evicted from the outbox when a paper changes. Fragments are HTML-escaped with
+ * hits wrapped in &lt;mark&gt;; the fragments with the most distinct matched terms are
+ * returned in document order.
+ */
+@Component
+public class SnippetHighlighter implements OutboxConsumer {
+
+    private static final String ELLIPSIS = "…";
+
+    // Words of the web search syntax that are operators rather than terms
+    private static final Set<String> OPERATORS = Set.of("or", "and", "not");
+
+    @Value("${app.search.snippets.max-fragments:3}")
+    private int maxFragments;
+
+    @Value("${app.search.snippets.fragment-length:160}")
+    private int fragmentLength;
+
+    @Value("${app.search.snippets.cache-size:1000}")
+    private int cacheSize;
+
+    private record CachedOffsets(LocalDateTime version, TermOffsets offsets) {
+    }
+
+    private final Map<Long, CachedOffsets> offsetCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedOffsets> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * @param paperId   cache key
+     * @param version   the paper's updatedAt; a newer version recomputes the offsets
+     * @param content   full text to cut fragments from
+     * @param query     the search query; quoted phrases, OR and -excluded words are understood
+     */
+    public List<String> highlight(Long paperId, LocalDateTime version, String content, String query) {
+        if (content == null || content.isEmpty()) return Collections.emptyList();
+        List<String> terms = queryTerms(query);
+        if (terms.isEmpty()) return Collections.emptyList();
+
+        int[] hits = offsets(paperId, version, content).findHits(terms);
+        if (hits.length == 0) return Collections.emptyList();
+
+        List<Fragment> fragments = buildFragments(content, hits);
+        fragments.sort((a, b) -> b.distinctTerms != a.distinctTerms
+                ? Integer.compare(b.distinctTerms, a.distinctTerms)
+                : Integer.compare(a.start, b.start));
+        List<Fragment> best = new ArrayList<>(fragments.subList(0, Math.min(maxFragments, fragments.size())));
+        best.sort((a, b) -> Integer.compare(a.start, b.start));
+
+        List<String> snippets = new ArrayList<>(best.size());
+        for (Fragment fragment : best) {
+            snippets.add(render(content, fragment));
+        }
+        return snippets;
+    }
+
+    @Override
+    public String getConsumerName() {
+        return "snippet-cache";
+    }
+
+    @Override
+    public void apply(List<OutboxEvent> events) {
+        synchronized (offsetCache) {
+            for (OutboxEvent event : events) {
+                offsetCache.remove(event.getAggregateId());
+            }
+        }
+    }
+
+    private TermOffsets offsets(Long paperId, LocalDateTime version, String content) {
+        if (paperId == null) return TermOffsets.of(content);
+        synchronized (offsetCache) {
+            CachedOffsets cached = offsetCache.get(paperId);
+            if (cached != null && Objects.equals(cached.version(), version)
+                    && cached.offsets().getTextLength() == content.length()) {
+                return cached.offsets();
+            }
+        }
+        TermOffsets offsets = TermOffsets.of(content);
+        synchronized (offsetCache) {
+            offsetCache.put(paperId, new CachedOffsets(version, offsets));
+        }
+        return offsets;
+    }
+
+    private static final class Fragment {
+        final int start;
+        int end;
+        final List<int[]> hits = new ArrayList<>();
+        int distinctTerms;
+
+        Fragment(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Greedy windows: each window starts a little before its first hit and absorbs every
+     * following hit that still fits within fragmentLength
+     */
+    private List<Fragment> buildFragments(String content, int[] hits) {
+        List<Fragment> fragments = new ArrayList<>();
+        Fragment current = null;
+        Set<String> currentTerms = new LinkedHashSet<>();
+        for (int h = 0; h < hits.length; h += 2) {
+            int hitStart = hits[h];
+            int hitEnd = hits[h + 1];
+            if (current == null || hitEnd > current.start + fragmentLength) {
+                if (current != null) {
+                    current.distinctTerms = currentTerms.size();
+                    fragments.add(current);
+                    currentTerms.clear();
+                }
+                int start = wordStartBefore(content, Math.max(0, hitStart - fragmentLength / 4));
+                current = new Fragment(start, Math.min(content.length(), start + fragmentLength));
+            }
+            current.hits.add(new int[] {hitStart, hitEnd});
+            currentTerms.add(content.substring(hitStart, hitEnd).toLowerCase(Locale.ROOT));
+        }
+        current.distinctTerms = currentTerms.size();
+        fragments.add(current);
+
+        for (Fragment fragment : fragments) {
+            int lastHitEnd = fragment.hits.get(fragment.hits.size() - 1)[1];
+            fragment.end = Math.max(lastHitEnd, wordEndBefore(content, fragment.end));
+        }
+        return fragments;
+    }
+
+    private static String render(String content, Fragment fragment) {
+        StringBuilder snippet = new StringBuilder(fragment.end - fragment.start + 32);
+        if (fragment.start > 0) snippet.append(ELLIPSIS);
+        int position = fragment.start;
+        for (int[] hit : fragment.hits) {
+            snippet.append(HtmlUtils.htmlEscape(content.substring(position, hit[0])))
+                   .append("<mark>")
+                   .append(HtmlUtils.htmlEscape(content.substring(hit[0], hit[1])))
+                   .append("</mark>");
+            position = hit[1];
+        }
+        snippet.append(HtmlUtils.htmlEscape(content.substring(position, fragment.end)));
+        if (fragment.end < content.length()) snippet.append(ELLIPSIS);
+        return snippet.toString().replaceAll("\\s+", " ");
+    }
+
+    private static int wordStartBefore(String content, int index) {
+        while (index > 0 && Character.isLetterOrDigit(content.charAt(index - 1))) index--;
+        return index;
+    }
+
+    private static int wordEndBefore(String content, int index) {
+        if (index >= content.length()) return content.length();
+        int end = index;
+        while (end > 0 && Character.isLetterOrDigit(content.charAt(end))) end--;
+        return end > 0 ? end : index;
+    }
+
+    private static List<String> queryTerms(String query) {
+        if (query == null) return Collections.emptyList();
+        Set<String> terms = new LinkedHashSet<>();
+        for (String raw : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (raw.startsWith("-")) continue;
+            for (String word : raw.split("[^\\p{L}\\p{Nd}]+")) {
+                if (!word.isEmpty() && !OPERATORS.contains(word)) {
+                    terms.add(word);
+                }
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.auth.search;
+
+import com.example.auth.entity.OutboxEvent;
+import com.example.auth.entity.Paper;
+import com.example.auth.entity.Tag;
+import com.example.auth.repository.PaperRepository;
+import com.example.auth.service.OutboxConsumer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Autocomplete for the paper dashboards over title words, tag names and author usernames.
+ *
+ * Each paper contributes weight 1 to every distinct term it carries, or 2 once published,
+ * so the most used terms complete first. The trie is built at startup and updated
+ * incrementally from PAPER_CREATED and PAPER_PUBLISHED outbox events.
+ */
+@Service
+public class SuggestionService implements OutboxConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionService.class);
+
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final long DRAFT_WEIGHT = 1;
+    private static final long PUBLISHED_WEIGHT = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "and", "for", "from", "into", "not", "of", "on", "or", "the", "to", "with", "via", "its", "are", "was");
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Value("${app.search.suggest.max-results:10}")
+    private int maxResults;
+
+    private CompletionTrie trie;
+
+    // What each paper currently contributes, so an update can subtract it exactly
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+
+    // Guards the trie and contributions; held while tags and authors are loaded, see PaperIndex.writeLock
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private record Contribution(Set<String> titleTokens, Set<String> tags, String author, long weight) {
+    }
+
+    @PostConstruct
+    public void init() {
+        trie = new CompletionTrie(maxResults);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            logger.info("Building suggestion trie");
+            trie.clear();
+            contributions.clear();
+
+            Map<Long, Set<String>> tagsByPaper = new HashMap<>();
+            for (Object[] pair : paperRepository.findAllPaperTagNames()) {
+                tagsByPaper.computeIfAbsent((Long) pair[0], id -> new LinkedHashSet<>()).add((String) pair[1]);
+            }
+            for (Object[] row : paperRepository.findSuggestionRows()) {
+                Long paperId = (Long) row[0];
+                apply(paperId, contribution((String) row[1], tagsByPaper.getOrDefault(paperId, Collections.emptySet()),
+                        (String) row[2], (LocalDateTime) row[3]));
+            }
+            logger.info("Suggestion trie built with {} completions from {} papers", trie.size(), contributions.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getConsumerName() {
+        return "paper-suggestions";
+    }
+
+    /**
+     * Re-index each paper from its current state; replacing a paper's contribution makes
+     * repeated delivery harmless
+     */
+    @Override
+    public void apply(List<OutboxEvent> events) {
+        Set<Long> paperIds = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            paperIds.add(event.getAggregateId());
+        }
+        for (Paper paper : paperRepository.findAllById(paperIds)) {
+            indexPaper(paper);
+        }
+    }
+
+    /**
+     * Re-index a paper from its current state. Author and tags are loaded if needed.
+     */
+    public void indexPaper(Paper paper) {
+        lock.lock();
+        try {
+            if (paper.getId() == null) return;
+            Set<String> tags = new LinkedHashSet<>();
+            for (Tag tag : paper.getTags()) {
+                tags.add(tag.getName());
+            }
+            String author = paper.getAuthor() != null ? paper.getAuthor().getUsername() : null;
+            apply(paper.getId(), contribution(paper.getTitle(), tags, author, paper.getPublicationDate()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<CompletionTrie.Completion> suggest(String prefix, Integer limit) {
+        if (prefix == null) return Collections.emptyList();
+        String key = prefix.trim().toLowerCase(Locale.ROOT);
+        int max = limit != null && limit > 0 ? Math.min(limit, maxResults) : maxResults;
+        return trie.complete(key, max);
+    }
+
+    private void apply(Long paperId, Contribution next) {
+        Contribution previous = contributions.put(paperId, next);
+        if (previous != null) {
+            adjust(previous, -previous.weight());
+        }
+        adjust(next, next.weight());
+    }
+
+    private void adjust(Contribution contribution, long delta) {
+        for (String token : contribution.titleTokens()) {
+            trie.adjust(token, token, CompletionTrie.Kind.TITLE, delta);
+        }
+        for (String tag : contribution.tags()) {
+            trie.adjust(tag.toLowerCase(Locale.ROOT), tag, CompletionTrie.Kind.TAG, delta);
+        }
+        if (contribution.author() != null) {
+            trie.adjust(contribution.author().toLowerCase(Locale.ROOT), contribution.author(),
+                    CompletionTrie.Kind.AUTHOR, delta);
+        }
+    }
+
+    private static Contribution contribution(String title, Collection<String> tags, String author,
+                                             LocalDateTime publicationDate) {
+        return new Contribution(titleTokens(title), Set.copyOf(tags), author,
+                publicationDate != null ? PUBLISHED_WEIGHT : DRAFT_WEIGHT);
+    }
+
+    private static Set<String> titleTokens(String title) {
+        if (title == null) return Collections.emptySet();
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : title.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (word.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(word)) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.auth.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Term vector of one text: for every lower-cased word, the character offsets where it
+ * occurs. Built once per text version so highlighting never rescans the body.
+ */
+public final class TermOffsets {
+
+    private final Map<String, int[]> startsByTerm;
+    private final int textLength;
+
+    private TermOffsets(Map<String, int[]> startsByTerm, int textLength) {
+        this.startsByTerm = startsByTerm;
+        this.textLength = textLength;
+    }
+
+    public static TermOffsets of(String text) {
+        if (text == null) return new TermOffsets(Map.of(), 0);
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) i++;
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) i++;
+            if (i > start) {
+                positions.computeIfAbsent(text.substring(start, i).toLowerCase(Locale.ROOT), t -> new ArrayList<>())
+                        .add(start);
+            }
+        }
+
+        Map<String, int[]> startsByTerm = new HashMap<>(positions.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+            startsByTerm.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return new TermOffsets(startsByTerm, length);
+    }
+
+    public int getTextLength() {
+        return textLength;
+    }
+
+    /**
+     * Occurrences of words starting with any of the query terms, sorted by position.
+     * Prefix matching lets "learn" highlight "learning".
+     *
+     * @return pairs of (start, end) offsets flattened into one array
+     */
+    public int[] findHits(List<String> queryTerms) {
+        List<int[]> hits = new ArrayList<>();
+        for (Map.Entry<String, int[]> entry : startsByTerm.entrySet()) {
+            String word = entry.getKey();
+            for (String term : queryTerms) {
+                if (word.startsWith(term)) {
+                    for (int start : entry.getValue()) {
+                        hits.add(new int[] {start, start + word.length()});
+                    }
+                    break;
+                }
+            }
+        }
+        hits.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        int[] flat = new int[hits.size() * 2];
+        for (int h = 0; h < hits.size(); h++) {
+            flat[2 * h] = hits.get(h)[0];
+            flat[2 * h + 1] = hits.get(h)[1];
+        }
+        return flat;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.auth.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Character-trigram index from ids to short texts (titles, usernames, tag names).
+ *
+ * Texts are lower-cased and split into words; each word is padded like pg_trgm
+ * ("  word ") before being cut into trigrams. A query only touches the posting lists of
+ * its own trigrams, so scoring costs O(matching postings) instead of an edit distance
+ * against every row.
+ */
+public class TrigramIndex {
+
+    /**
+     * An indexed id and its similarity to the query, between 0 and 1
+     */
+    public record Match(Long id, double score) {
+    }
+
+    private final Map<String, Set<Long>> idsByTrigram = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> trigramsById = new ConcurrentHashMap<>();
+
+    /**
+     * Index a text under an id, replacing any text previously indexed for it
+     */
+    public synchronized void put(Long id, String text) {
+        if (id == null) return;
+        remove(id);
+        Set<String> trigrams = trigrams(text);
+        if (trigrams.isEmpty()) return;
+        trigramsById.put(id, trigrams);
+        for (String trigram : trigrams) {
+            idsByTrigram.computeIfAbsent(trigram, t -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        if (id == null) return;
+        Set<String> previous = trigramsById.remove(id);
+        if (previous == null) return;
+        for (String trigram : previous) {
+            idsByTrigram.computeIfPresent(trigram, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        idsByTrigram.clear();
+        trigramsById.clear();
+    }
+
+    public int size() {
+        return trigramsById.size();
+    }
+
+    /**
+     * Ids whose text contains the query approximately, best first.
+     *
+     * The score is the share of the query's trigrams found in the indexed text, so a
+     * misspelt word still matches inside a long title ("lerning" scores 0.75 against
+     * "Machine Learning"). Ties go to the shorter text, which is the closer match.
+     */
+    public List<Match> search(String query, double threshold, int limit) {
+        Set<String> queryTrigrams = trigrams(query);
+        if (queryTrigrams.isEmpty()) return Collections.emptyList();
+
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids == null) continue;
+            for (Long id : ids) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : shared.entrySet()) {
+            double score = entry.getValue() / (double) queryTrigrams.size();
+            if (score >= threshold) {
+                matches.add(new Match(entry.getKey(), score));
+            }
+        }
+        matches.sort((a, b) -> {
+            int byScore = Double.compare(b.score(), a.score());
+            return byScore != 0 ? byScore : Integer.compare(trigramCount(a.id()), trigramCount(b.id()));
+        });
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private int trigramCount(Long id) {
+        Set<String> trigrams = trigramsById.get(id);
+        return trigrams != null ? trigrams.size() : Integer.MAX_VALUE;
+    }
+
+    static Set<String> trigrams(String text) {
+        if (text == null) return Collections.emptySet();
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (word.isEmpty()) continue;
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
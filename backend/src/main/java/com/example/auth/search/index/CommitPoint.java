@@ -0,0 +1,132 @@
+package com.example.auth.search.index;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The durable state of the index: which segments (and which generation of each segment's
+ * deletions) are live, and how far into the papers table the index has caught up.
+ *
+ * The paper table position is the largest Paper.updatedAt indexed plus the ids indexed at
+ * exactly that timestamp, so the next refresh can ask for updatedAt >= position without
+ * indexing those papers again. The file is replaced atomically; segments not named in it
+ * are garbage.
+ */
+final class CommitPoint {
+
+    static final String FILE_NAME = "segments.commit";
+
+    private final long nextSegmentNumber;
+    // segment name -> deletions generation (0 = no deletions)
+    private final Map<String, Integer> segments;
+    private final LocalDateTime indexedUpTo;
+    private final Set<Long> idsAtIndexedUpTo;
+
+    CommitPoint(long nextSegmentNumber, Map<String, Integer> segments, LocalDateTime indexedUpTo,
+                Set<Long> idsAtIndexedUpTo) {
+        this.nextSegmentNumber = nextSegmentNumber;
+        this.segments = Collections.unmodifiableMap(new LinkedHashMap<>(segments));
+        this.indexedUpTo = indexedUpTo;
+        this.idsAtIndexedUpTo = Collections.unmodifiableSet(new LinkedHashSet<>(idsAtIndexedUpTo));
+    }
+
+    static CommitPoint empty() {
+        return new CommitPoint(1, Map.of(), null, Set.of());
+    }
+
+    long getNextSegmentNumber() {
+        return nextSegmentNumber;
+    }
+
+    Map<String, Integer> getSegments() {
+        return segments;
+    }
+
+    LocalDateTime getIndexedUpTo() {
+        return indexedUpTo;
+    }
+
+    Set<Long> getIdsAtIndexedUpTo() {
+        return idsAtIndexedUpTo;
+    }
+
+    static String deletionsFileName(String segment, int generation) {
+        return segment + "_" + generation + ".del";
+    }
+
+    /**
+     * @return the commit point in the directory, or null if there is none
+     */
+    static CommitPoint read(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) return null;
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        Map<String, Integer> segments = new LinkedHashMap<>();
+        for (String entry : split(properties.getProperty("segments"))) {
+            int colon = entry.lastIndexOf(':');
+            segments.put(entry.substring(0, colon), Integer.parseInt(entry.substring(colon + 1)));
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String id : split(properties.getProperty("idsAtIndexedUpTo"))) {
+            ids.add(Long.parseLong(id));
+        }
+        String indexedUpTo = properties.getProperty("indexedUpTo", "");
+        return new CommitPoint(
+                Long.parseLong(properties.getProperty("nextSegmentNumber", "1")),
+                segments,
+                indexedUpTo.isEmpty() ? null : LocalDateTime.parse(indexedUpTo),
+                ids);
+    }
+
+    void write(Path directory) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("nextSegmentNumber", Long.toString(nextSegmentNumber));
+        List<String> entries = new ArrayList<>();
+        segments.forEach((name, generation) -> entries.add(name + ":" + generation));
+        properties.setProperty("segments", String.join(",", entries));
+        properties.setProperty("indexedUpTo", indexedUpTo != null ? indexedUpTo.toString() : "");
+        List<String> ids = new ArrayList<>();
+        idsAtIndexedUpTo.forEach(id -> ids.add(id.toString()));
+        properties.setProperty("idsAtIndexedUpTo", String.join(",", ids));
+
+        Path temp = directory.resolve(FILE_NAME + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Paper search index commit point");
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(FILE_NAME), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static List<String> split(String value) {
+        List<String> parts = new ArrayList<>();
+        if (value == null || value.isEmpty()) return parts;
+        for (String part : value.split(",")) {
+            if (!part.isEmpty()) parts.add(part);
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,536 @@
+package com.example.auth.search.index;
+
+import com.example.auth.config.Workload;
+import com.example.auth.config.WorkloadContext;
+import com.example.auth.entity.OutboxEvent;
+import com.example.auth.entity.Paper;
+import com.example.auth.repository.PaperRepository;
+import com.example.auth.service.OutboxConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Persistent inverted index over paper title, abstract and content, stored as immutable
+ * memory-mapped segments (see Segment) plus a commit point (see CommitPoint).
+ *
+ * Opening maps the committed segments, so a restart costs milliseconds regardless of
+ * corpus size, and the postings live in the OS page cache rather than on the heap.
+ * Paper outbox events re-index the papers they name, by id. A scheduled refresh, as a safety
+ * net, indexes papers whose updatedAt is past the commit point. Either way the new versions go
+ * into a new segment and their previous versions are marked deleted in older segments. The
+ * commit point trails the clock by commit-lag-ms, because updatedAt is stamped before commit
+ * and a transaction that stamped earlier may commit after one that stamped later. A scheduled merge
+ * folds the smallest segments together once there are more than merge-factor of them.
+ *
+ * Writers (open, index, refresh, merge, rebuild) are serialized by writeLock; searches read an
+ * immutable snapshot of the segment list and never block.
+ */
+@Component
+public class PaperIndex implements OutboxConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaperIndex.class);
+
+    private static final String SEGMENT_PREFIX = "seg_";
+    private static final int PAGE_SIZE = 200;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int ABSTRACT_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Value("${app.search.index.dir:data/search-index}")
+    private String directoryName;
+
+    @Value("${app.search.index.max-buffered-docs:1000}")
+    private int maxBufferedDocs;
+
+    @Value("${app.search.index.merge-factor:10}")
+    private int mergeFactor;
+
+    @Value("${app.search.index.commit-lag-ms:60000}")
+    private long commitLagMs;
+
+    private record LiveSegment(Segment segment, BitSet deleted, int deletionsGeneration) {
+        int liveDocs() {
+            return segment.getDocCount() - deleted.cardinality();
+        }
+    }
+
+    private Path directory;
+    private CommitPoint commit;
+    private volatile List<LiveSegment> snapshot = Collections.emptyList();
+    private volatile boolean open = false;
+
+    // A lock rather than synchronized: writers query the database while holding it, which
+    // would pin a virtual thread to its carrier (see VIRTUAL_THREADS_GUIDE.md)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Map the committed segments and catch up with papers changed since the commit point.
+     * An index that does not match the database (restored or recreated schema) is rebuilt.
+     */
+    public void open() throws IOException {
+        writeLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            directory = Paths.get(directoryName).toAbsolutePath();
+            Files.createDirectories(directory);
+
+            try {
+                load();
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Search index at {} is unreadable ({}), rebuilding", directory, e.getMessage());
+                commit = CommitPoint.empty();
+                snapshot = Collections.emptyList();
+                commit.write(directory);
+            }
+            deleteUnreferencedFiles();
+            open = true;
+            logger.info("Opened search index at {} with {} segments, {} documents in {} ms",
+                       directory, snapshot.size(), liveDocCount(), System.currentTimeMillis() - start);
+
+            LocalDateTime latest = inWorkload(() -> paperRepository.findMaxUpdatedAt());
+            if (commit.getIndexedUpTo() != null && (latest == null || latest.isBefore(commit.getIndexedUpTo()))) {
+                logger.warn("Search index is ahead of the papers table, rebuilding");
+                rebuild();
+                return;
+            }
+            refresh();
+            long papers = inWorkload(() -> paperRepository.count());
+            if (papers != liveDocCount()) {
+                logger.warn("Search index holds {} documents but there are {} papers, rebuilding", liveDocCount(), papers);
+                rebuild();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public int liveDocCount() {
+        int count = 0;
+        for (LiveSegment segment : snapshot) {
+            count += segment.liveDocs();
+        }
+        return count;
+    }
+
+    public int segmentCount() {
+        return snapshot.size();
+    }
+
+    @Override
+    public String getConsumerName() {
+        return "paper-search-index";
+    }
+
+    /**
+     * Re-index the papers named by the events from their current state; a paper indexed twice
+     * just supersedes its own previous version, so repeated delivery is harmless
+     */
+    @Override
+    public void apply(List<OutboxEvent> events) {
+        if (!open) return;
+        Set<Long> paperIds = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            paperIds.add(event.getAggregateId());
+        }
+        try {
+            index(paperIds);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Index the given papers without moving the commit point
+     */
+    public void index(Set<Long> paperIds) throws IOException {
+        writeLock.lock();
+        try {
+            if (paperIds.isEmpty()) return;
+            SortedMap<Long, Map<String, Integer>> documents = new TreeMap<>();
+            for (Paper paper : inWorkload(() -> paperRepository.findAllById(paperIds))) {
+                documents.put(paper.getId(), terms(paper));
+            }
+            if (documents.isEmpty()) return;
+            writeSegment(documents, commit.getIndexedUpTo(), commit.getIdsAtIndexedUpTo());
+            logger.debug("Indexed papers {}; index has {} segments", documents.keySet(), snapshot.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.index.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (!open) return;
+        try {
+            refresh();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Search index refresh failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.index.merge-interval-ms:60000}")
+    public void scheduledMerge() {
+        if (!open) return;
+        try {
+            maybeMerge();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Search index merge failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Index papers changed since the commit point. Papers stamped within commit-lag-ms of now
+     * are indexed but the commit point stays behind them, so the next refresh reads them again
+     * along with any transaction that stamped earlier but had not committed yet.
+     *
+     * @return the number of papers indexed
+     */
+    public int refresh() throws IOException {
+        writeLock.lock();
+        try {
+            LocalDateTime horizon = LocalDateTime.now().minusNanos(commitLagMs * 1_000_000);
+            LocalDateTime since = commit.getIndexedUpTo();
+            Set<Long> alreadyIndexed = commit.getIdsAtIndexedUpTo();
+            LocalDateTime upTo = since;
+            Set<Long> idsAtUpTo = new HashSet<>(alreadyIndexed);
+            SortedMap<Long, Map<String, Integer>> buffer = new TreeMap<>();
+            int indexed = 0;
+
+            // Keyset pagination, so papers updated while we page cannot shift a page boundary
+            LocalDateTime afterUpdatedAt = since;
+            long afterId = -1L;
+            while (true) {
+                LocalDateTime pageUpdatedAt = afterUpdatedAt;
+                long pageId = afterId;
+                List<Paper> papers = inWorkload(() -> since == null
+                        ? paperRepository.findPageAfterId(pageId, PageRequest.of(0, PAGE_SIZE))
+                        : paperRepository.findUpdatedSince(pageUpdatedAt, pageId, PageRequest.of(0, PAGE_SIZE)));
+
+                for (Paper paper : papers) {
+                    afterUpdatedAt = paper.getUpdatedAt();
+                    afterId = paper.getId();
+                    LocalDateTime updatedAt = paper.getUpdatedAt();
+                    if (since != null && since.equals(updatedAt) && alreadyIndexed.contains(paper.getId())) {
+                        continue;
+                    }
+                    buffer.put(paper.getId(), terms(paper));
+                    if (updatedAt != null && !updatedAt.isAfter(horizon)) {
+                        if (upTo == null || updatedAt.isAfter(upTo)) {
+                            upTo = updatedAt;
+                            idsAtUpTo.clear();
+                            idsAtUpTo.add(paper.getId());
+                        } else if (updatedAt.equals(upTo)) {
+                            idsAtUpTo.add(paper.getId());
+                        }
+                    }
+                }
+
+                boolean last = papers.size() < PAGE_SIZE;
+                if (buffer.size() >= maxBufferedDocs || (last && !buffer.isEmpty())) {
+                    indexed += buffer.size();
+                    // After the first build papers arrive in updatedAt order, so progress can be committed
+                    // with every segment; the first build walks ids and commits its position at the end
+                    boolean commitPosition = since != null || last;
+                    writeSegment(buffer, commitPosition ? upTo : null, commitPosition ? idsAtUpTo : Set.of());
+                    buffer = new TreeMap<>();
+                }
+                if (last) break;
+            }
+
+            if (indexed > 0) {
+                logger.info("Indexed {} papers; index has {} segments, {} documents", indexed, snapshot.size(), liveDocCount());
+            }
+            return indexed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Merge the smallest segments into one when there are more than merge-factor segments
+     */
+    public void maybeMerge() throws IOException {
+        writeLock.lock();
+        try {
+            if (snapshot.size() <= mergeFactor) return;
+
+            List<LiveSegment> candidates = new ArrayList<>(snapshot);
+            candidates.sort(Comparator.comparingInt(LiveSegment::liveDocs));
+            List<LiveSegment> merging = candidates.subList(0, mergeFactor);
+
+            SortedMap<Long, Map<String, Integer>> documents = new TreeMap<>();
+            for (LiveSegment live : merging) {
+                Segment segment = live.segment();
+                for (int term = 0; term < segment.getTermCount(); term++) {
+                    String text = segment.term(term);
+                    for (int posting = 0; posting < segment.postingCount(term); posting++) {
+                        int ordinal = segment.postingOrdinal(term, posting);
+                        if (!live.deleted().get(ordinal)) {
+                            documents.computeIfAbsent(segment.docId(ordinal), id -> new HashMap<>())
+                                     .put(text, segment.postingFrequency(term, posting));
+                        }
+                    }
+                }
+            }
+
+            String name = nextSegmentName();
+            Segment.write(directory.resolve(name), documents);
+            Segment merged = Segment.open(directory.resolve(name));
+
+            List<LiveSegment> next = new ArrayList<>();
+            for (LiveSegment live : snapshot) {
+                if (!merging.contains(live)) next.add(live);
+            }
+            next.add(new LiveSegment(merged, new BitSet(), 0));
+            commit(next, commit.getIndexedUpTo(), commit.getIdsAtIndexedUpTo());
+            logger.info("Merged {} segments into {} ({} documents)", merging.size(), name, merged.getDocCount());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Drop every segment and index all papers again
+     */
+    public void rebuild() throws IOException {
+        writeLock.lock();
+        try {
+            commit(Collections.emptyList(), null, Set.of());
+            refresh();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Papers containing every term, best match first, scored by sum of (1 + ln tf) * idf with
+     * title and abstract occurrences weighted above content
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokens(query)));
+        List<LiveSegment> segments = snapshot;
+        if (terms.isEmpty() || segments.isEmpty()) return Collections.emptyList();
+
+        int totalDocs = 0;
+        int[] documentFrequency = new int[terms.size()];
+        int[][] termIndexes = new int[segments.size()][terms.size()];
+        for (int s = 0; s < segments.size(); s++) {
+            Segment segment = segments.get(s).segment();
+            totalDocs += segments.get(s).liveDocs();
+            for (int t = 0; t < terms.size(); t++) {
+                int termIndex = segment.findTerm(terms.get(t));
+                termIndexes[s][t] = termIndex;
+                if (termIndex >= 0) documentFrequency[t] += segment.postingCount(termIndex);
+            }
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (int s = 0; s < segments.size(); s++) {
+            LiveSegment live = segments.get(s);
+            Segment segment = live.segment();
+            Map<Integer, double[]> matches = null; // ordinal -> (score, matched terms)
+            for (int t = 0; t < terms.size(); t++) {
+                int termIndex = termIndexes[s][t];
+                if (termIndex < 0) {
+                    matches = null;
+                    break;
+                }
+                double idf = Math.log(1.0 + (double) totalDocs / documentFrequency[t]);
+                Map<Integer, double[]> next = new HashMap<>();
+                for (int posting = 0; posting < segment.postingCount(termIndex); posting++) {
+                    int ordinal = segment.postingOrdinal(termIndex, posting);
+                    if (live.deleted().get(ordinal)) continue;
+                    double[] previous = matches != null ? matches.get(ordinal) : new double[1];
+                    if (previous == null) continue;
+                    double termScore = (1.0 + Math.log(segment.postingFrequency(termIndex, posting))) * idf;
+                    next.put(ordinal, new double[] {previous[0] + termScore});
+                }
+                matches = next;
+                if (matches.isEmpty()) break;
+            }
+            if (matches == null) continue;
+            for (Map.Entry<Integer, double[]> match : matches.entrySet()) {
+                scores.put(segment.docId(match.getKey()), match.getValue()[0]);
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<Long> ids = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return ids;
+    }
+
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!word.isEmpty()) tokens.add(word);
+        }
+        return tokens;
+    }
+
+    private static Map<String, Integer> terms(Paper paper) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, paper.getTitle(), TITLE_WEIGHT);
+        addTerms(frequencies, paper.getAbstractText(), ABSTRACT_WEIGHT);
+        addTerms(frequencies, paper.getContent(), CONTENT_WEIGHT);
+        return frequencies;
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : tokens(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void load() throws IOException {
+        CommitPoint stored = CommitPoint.read(directory);
+        commit = stored != null ? stored : CommitPoint.empty();
+        List<LiveSegment> segments = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : commit.getSegments().entrySet()) {
+            Segment segment = Segment.open(directory.resolve(entry.getKey()));
+            int generation = entry.getValue();
+            BitSet deleted = generation > 0
+                    ? BitSet.valueOf(Files.readAllBytes(directory.resolve(CommitPoint.deletionsFileName(entry.getKey(), generation))))
+                    : new BitSet();
+            segments.add(new LiveSegment(segment, deleted, generation));
+        }
+        snapshot = Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Write a segment for the documents, mark their older versions deleted and commit
+     */
+    private void writeSegment(SortedMap<Long, Map<String, Integer>> documents, LocalDateTime upTo,
+                              Set<Long> idsAtUpTo) throws IOException {
+        String name = nextSegmentName();
+        Segment.write(directory.resolve(name), documents);
+        Segment written = Segment.open(directory.resolve(name));
+
+        List<LiveSegment> next = new ArrayList<>();
+        for (LiveSegment live : snapshot) {
+            BitSet deleted = null;
+            for (Long docId : documents.keySet()) {
+                int ordinal = live.segment().ordinalOf(docId);
+                if (ordinal >= 0 && !live.deleted().get(ordinal)) {
+                    if (deleted == null) deleted = (BitSet) live.deleted().clone();
+                    deleted.set(ordinal);
+                }
+            }
+            if (deleted == null) {
+                next.add(live);
+            } else if (deleted.cardinality() < live.segment().getDocCount()) {
+                int generation = live.deletionsGeneration() + 1;
+                writeAtomically(directory.resolve(CommitPoint.deletionsFileName(live.segment().getName(), generation)),
+                        deleted.toByteArray());
+                next.add(new LiveSegment(live.segment(), deleted, generation));
+            }
+            // else every document was superseded and the segment is dropped
+        }
+        next.add(new LiveSegment(written, new BitSet(), 0));
+        commit(next, upTo, idsAtUpTo);
+    }
+
+    private void commit(List<LiveSegment> segments, LocalDateTime upTo, Set<Long> idsAtUpTo) throws IOException {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        for (LiveSegment live : segments) {
+            entries.put(live.segment().getName(), live.deletionsGeneration());
+        }
+        CommitPoint next = new CommitPoint(commit.getNextSegmentNumber(), entries, upTo, idsAtUpTo);
+        next.write(directory);
+        commit = next;
+        snapshot = Collections.unmodifiableList(new ArrayList<>(segments));
+        deleteUnreferencedFiles();
+    }
+
+    private String nextSegmentName() {
+        String name = SEGMENT_PREFIX + commit.getNextSegmentNumber();
+        commit = new CommitPoint(commit.getNextSegmentNumber() + 1, commit.getSegments(),
+                commit.getIndexedUpTo(), commit.getIdsAtIndexedUpTo());
+        return name;
+    }
+
+    /**
+     * Remove segments and deletion files no longer named by the commit point. Searches that
+     * still hold a removed segment keep reading it through their mapping.
+     */
+    private void deleteUnreferencedFiles() throws IOException {
+        Set<String> referenced = new HashSet<>();
+        referenced.add(CommitPoint.FILE_NAME);
+        commit.getSegments().forEach((name, generation) -> {
+            referenced.add(name);
+            if (generation > 0) referenced.add(CommitPoint.deletionsFileName(name, generation));
+        });
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!referenced.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static void writeAtomically(Path file, byte[] content) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, content);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Bulk reads go to the export pool on the primary: the replica may lag behind the
+     * updatedAt position the index commits, which would skip papers for good
+     */
+    private static <T> T inWorkload(Supplier<T> query) {
+        Workload previous = WorkloadContext.enter(Workload.EXPORT);
+        try {
+            return query.get();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
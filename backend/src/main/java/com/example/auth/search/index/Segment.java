@@ -0,0 +1,233 @@
+package com.example.auth.search.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable, memory-mapped index segment: a sorted doc id table, a sorted term
+ * dictionary and one posting list of (doc ordinal, weighted term frequency) per term.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * int magic, int version, int docCount, int termCount
+ * long[docCount]      doc ids, ascending
+ * int[termCount + 1]  start of each term in the term bytes (last entry = total length)
+ * int[termCount + 1]  start of each term's postings (last entry = total postings)
+ * byte[]              UTF-8 terms, in unsigned byte order
+ * (int, int)[]        postings: doc ordinal, frequency
+ * </pre>
+ * Opening a segment maps the file and reads four ints; nothing is loaded onto the heap.
+ */
+public final class Segment {
+
+    private static final int MAGIC = 0x50534547; // "PSEG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private final String name;
+    private final MappedByteBuffer buffer;
+    private final int docCount;
+    private final int termCount;
+    private final int docIdsOffset;
+    private final int termStartsOffset;
+    private final int postingStartsOffset;
+    private final int termBytesOffset;
+    private final int postingsOffset;
+
+    private Segment(String name, MappedByteBuffer buffer) throws IOException {
+        this.name = name;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a search index segment: " + name);
+        }
+        this.docCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        this.docIdsOffset = HEADER_BYTES;
+        this.termStartsOffset = docIdsOffset + docCount * Long.BYTES;
+        this.postingStartsOffset = termStartsOffset + (termCount + 1) * Integer.BYTES;
+        this.termBytesOffset = postingStartsOffset + (termCount + 1) * Integer.BYTES;
+        this.postingsOffset = termBytesOffset + buffer.getInt(termStartsOffset + termCount * Integer.BYTES);
+    }
+
+    public static Segment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new Segment(file.getFileName().toString(), buffer);
+        }
+    }
+
+    /**
+     * Write a segment for the given documents (doc id -> term -> weighted frequency).
+     * The file is written under a temporary name and moved into place, so a crash never
+     * leaves a truncated segment behind under its final name.
+     */
+    public static void write(Path file, SortedMap<Long, Map<String, Integer>> documents) throws IOException {
+        long[] docIds = new long[documents.size()];
+        SortedMap<byte[], List<int[]>> postingsByTerm = new TreeMap<>(Arrays::compareUnsigned);
+        int ordinal = 0;
+        for (Map.Entry<Long, Map<String, Integer>> document : documents.entrySet()) {
+            docIds[ordinal] = document.getKey();
+            for (Map.Entry<String, Integer> term : document.getValue().entrySet()) {
+                postingsByTerm.computeIfAbsent(term.getKey().getBytes(StandardCharsets.UTF_8), t -> new ArrayList<>())
+                        .add(new int[] {ordinal, term.getValue()});
+            }
+            ordinal++;
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(docIds.length);
+            out.writeInt(postingsByTerm.size());
+            for (long docId : docIds) {
+                out.writeLong(docId);
+            }
+
+            int termStart = 0;
+            for (byte[] term : postingsByTerm.keySet()) {
+                out.writeInt(termStart);
+                termStart += term.length;
+            }
+            out.writeInt(termStart);
+
+            int postingStart = 0;
+            for (List<int[]> postings : postingsByTerm.values()) {
+                out.writeInt(postingStart);
+                postingStart += postings.size();
+            }
+            out.writeInt(postingStart);
+
+            for (byte[] term : postingsByTerm.keySet()) {
+                out.write(term);
+            }
+            for (List<int[]> postings : postingsByTerm.values()) {
+                for (int[] posting : postings) {
+                    out.writeInt(posting[0]);
+                    out.writeInt(posting[1]);
+                }
+            }
+            out.flush();
+            stream.flush();
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDocCount() {
+        return docCount;
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    public long docId(int ordinal) {
+        return buffer.getLong(docIdsOffset + ordinal * Long.BYTES);
+    }
+
+    /**
+     * @return the ordinal of the doc id, or -1 if this segment does not contain it
+     */
+    public int ordinalOf(long docId) {
+        int low = 0;
+        int high = docCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = docId(mid);
+            if (value < docId) {
+                low = mid + 1;
+            } else if (value > docId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the dictionary index of the term, or -1 if absent
+     */
+    public int findTerm(String term) {
+        byte[] key = term.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareTerm(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public String term(int termIndex) {
+        int start = termStart(termIndex);
+        byte[] bytes = new byte[termStart(termIndex + 1) - start];
+        buffer.get(termBytesOffset + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Number of documents containing the term (its document frequency in this segment)
+     */
+    public int postingCount(int termIndex) {
+        return postingStart(termIndex + 1) - postingStart(termIndex);
+    }
+
+    public int postingOrdinal(int termIndex, int posting) {
+        return buffer.getInt(postingsOffset + (postingStart(termIndex) + posting) * 2 * Integer.BYTES);
+    }
+
+    public int postingFrequency(int termIndex, int posting) {
+        return buffer.getInt(postingsOffset + (postingStart(termIndex) + posting) * 2 * Integer.BYTES + Integer.BYTES);
+    }
+
+    private int termStart(int termIndex) {
+        return buffer.getInt(termStartsOffset + termIndex * Integer.BYTES);
+    }
+
+    private int postingStart(int termIndex) {
+        return buffer.getInt(postingStartsOffset + termIndex * Integer.BYTES);
+    }
+
+    private int compareTerm(int termIndex, byte[] key) {
+        int start = termBytesOffset + termStart(termIndex);
+        int length = termStart(termIndex + 1) - termStart(termIndex);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+            if (cmp != 0) return cmp;
+        }
+        return Integer.compare(length, key.length);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.AdminAccessLog;
+import com.example.auth.entity.inheritance.strategy.AccessAuditedAdmin;
+import com.example.auth.entity.inheritance.strategy.AdminAccessTrail;
+import com.example.auth.repository.AdminAccessLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Batched asynchronous writer and retention job for the append-only admin_access_logs table.
+ *
+ * Admin entities hand entries to append(), which only enqueues. A scheduled flusher inserts
+ * queued entries as JDBC batches, and a daily job bulk-deletes rows older than the retention
+ * window instead of trimming per admin on every write. A batch that fails to insert is put
+ * back on the queue, as far as it has room, and retried on the next flush.
+ */
+@Service
+public class AdminAccessLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminAccessLogService.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO admin_access_logs (admin_type, admin_id, action, occurred_at) VALUES (?, ?, ?, ?)";
+
+    private static final int MAX_ACTION_LENGTH = 255;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdminAccessLogRepository accessLogRepository;
+
+    @Value("${admin.access-log.batch-size:500}")
+    private int batchSize;
+
+    @Value("${admin.access-log.retention-days:90}")
+    private int retentionDays;
+
+    private final BlockingQueue<AdminAccessLog> queue;
+    private final AtomicLong droppedEntries = new AtomicLong();
+    // Not synchronized: the flush holds it across the JDBC batch (see PaperIndex.writeLock)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public AdminAccessLogService(@Value("${admin.access-log.queue-capacity:10000}") int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Enqueue an entry without blocking the caller. If the queue is full the entry is
+     * dropped and counted rather than stalling an admin request on the database.
+     */
+    public void append(AdminAccessLog entry) {
+        if (entry.getAction() != null && entry.getAction().length() > MAX_ACTION_LENGTH) {
+            entry.setAction(entry.getAction().substring(0, MAX_ACTION_LENGTH));
+        }
+        if (!queue.offer(entry)) {
+            long dropped = droppedEntries.incrementAndGet();
+            logger.warn("Admin access log queue full, dropped entry for {} {} (total dropped: {})",
+                       entry.getAdminType(), entry.getAdminId(), dropped);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${admin.access-log.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<AdminAccessLog> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                List<Object[]> rows = new ArrayList<>(batch.size());
+                for (AdminAccessLog entry : batch) {
+                    rows.add(new Object[]{entry.getAdminType(), entry.getAdminId(), entry.getAction(),
+                                          Timestamp.valueOf(entry.getOccurredAt())});
+                }
+                try {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                    logger.debug("Wrote {} admin access log entries", rows.size());
+                } catch (Exception e) {
+                    int requeued = requeue(batch);
+                    logger.error("Failed to write {} admin access log entries, {} queued for retry: {}",
+                                rows.size(), requeued, e.getMessage(), e);
+                    return;
+                }
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Entries that no longer fit behind newer ones are dropped and counted, as in append()
+    private int requeue(List<AdminAccessLog> batch) {
+        int requeued = 0;
+        for (AdminAccessLog entry : batch) {
+            if (queue.offer(entry)) {
+                requeued++;
+            }
+        }
+        if (requeued < batch.size()) {
+            long dropped = droppedEntries.addAndGet(batch.size() - requeued);
+            logger.warn("Admin access log queue full, dropped {} entries (total dropped: {})",
+                       batch.size() - requeued, dropped);
+        }
+        return requeued;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(cron = "${admin.access-log.retention-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = accessLogRepository.deleteOlderThan(cutoff);
+        logger.info("Purged {} admin access log entries older than {}", deleted, cutoff);
+    }
+
+    /**
+     * The admin's latest entries, oldest first, as "timestamp: action": the logged history
+     * merged with entries recorded on this instance that may not have been flushed yet.
+     * Each call queries admin_access_logs, so call it for one admin, not per serialized row.
+     */
+    public List<String> getRecentEntries(AccessAuditedAdmin admin) {
+        AdminAccessTrail trail = admin.accessTrail();
+        // Keyed by time and action so entries already flushed are not listed twice
+        Map<String, AdminAccessLog> merged = new LinkedHashMap<>();
+        if (admin.getId() != null) {
+            for (AdminAccessLog entry : accessLogRepository.findTop20ByAdminTypeAndAdminIdOrderByOccurredAtDesc(
+                    trail.getAdminType(), admin.getId())) {
+                merged.putIfAbsent(entry.getOccurredAt() + ": " + entry.getAction(), entry);
+            }
+        }
+        for (AdminAccessLog entry : trail.localEntries()) {
+            merged.putIfAbsent(entry.getOccurredAt() + ": " + entry.getAction(), entry);
+        }
+        return merged.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparing(AdminAccessLog::getOccurredAt)))
+                .skip(Math.max(0, merged.size() - trail.getRecentLimit()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.auth.service;
 
+import com.example.auth.config.UseWorkload;
+import com.example.auth.config.Workload;
 import com.example.auth.dto.LoginRequest;
 import com.example.auth.dto.SignupRequest;
 import com.example.auth.entity.Role;
@@ -7,15 +9,25 @@ import com.example.auth.entity.RoleName;
 import com.example.auth.entity.User;
 import com.example.auth.repository.RoleRepository;
 import com.example.auth.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Logins and signup checks must see users committed a moment ago, so they never read the replica
+ */
 @Service
+@UseWorkload(Workload.OLTP)
 public class AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
@@ -26,71 +38,101 @@ public class AuthService {
     @Autowired
     private RoleRepository roleRepository;
 
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private SignupAvailabilityFilter availabilityFilter;
 
-    public boolean signup(SignupRequest signupRequest) {
-        logger.debug("Starting signup process for username: {}, email: {}", 
-                    signupRequest.getUsername(), signupRequest.getEmail());
-        
-        // Check if username already exists
-        if (userRepository.existsByUsername(signupRequest.getUsername())) {
-            logger.warn("Signup failed: Username '{}' already exists", signupRequest.getUsername());
-            return false;
-        }
+    @Autowired
+    private PasswordEncoder passwordEncoder;
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            logger.warn("Signup failed: Email '{}' already exists", signupRequest.getEmail());
-            return false;
-        }
+    @Autowired
+    private UnknownUsernameCache unknownUsernames;
+
+    private final Map<RoleName, Role> roles = new ConcurrentHashMap<>();
+
+    // Hash of a random password made with the current encoder settings, for verifyDummyPassword
+    private String dummyPasswordHash;
+
+    @PostConstruct
+    public void init() {
+        dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Create a user in at most one existence query plus the insert. The availability filter
+     * usually rules out a clash without any query. The role comes from a cache, and a
+     * concurrent signup for the same name or email is caught by the unique constraints.
+     */
+    public SignupResult signup(SignupRequest signupRequest) {
+        String username = signupRequest.getUsername();
+        String email = signupRequest.getEmail();
+        logger.debug("Starting signup process for username: {}, email: {}", username, email);
 
-        // Get role
         RoleName roleName;
         try {
             roleName = RoleName.valueOf(signupRequest.getRole().toUpperCase());
             logger.debug("Role validated: {}", roleName);
         } catch (IllegalArgumentException e) {
             logger.error("Invalid role provided: {}", signupRequest.getRole());
-            return false; // Invalid role
+            return SignupResult.INVALID_ROLE;
         }
 
-        Optional<Role> roleOptional = roleRepository.findByName(roleName);
-        if (roleOptional.isEmpty()) {
-            // Create role if it doesn't exist
-            logger.info("Creating new role: {}", roleName);
-            Role role = new Role(roleName);
-            roleOptional = Optional.of(roleRepository.save(role));
-        } else {
-            logger.debug("Using existing role: {}", roleName);
+        if (availabilityFilter.mightHaveUsername(username) || availabilityFilter.mightHaveEmail(email)) {
+            SignupResult conflict = findSignupConflict(username, email);
+            if (conflict != null) {
+                logger.warn("Signup failed for username '{}', email '{}': {}", username, email, conflict);
+                return conflict;
+            }
         }
 
         try {
-            // Create new user
-            User user = new User(
-                signupRequest.getUsername(),
-                signupRequest.getEmail(),
-                passwordEncoder.encode(signupRequest.getPassword()),
-                roleOptional.get()
-            );
-
+            User user = new User(username, email, passwordEncoder.encode(signupRequest.getPassword()), getRole(roleName));
             User savedUser = userRepository.save(user);
-            logger.info("User created successfully with ID: {}, username: {}", 
+            logger.info("User created successfully with ID: {}, username: {}",
                        savedUser.getId(), savedUser.getUsername());
-            return true;
+            return SignupResult.CREATED;
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent signup, or the cached role no longer exists
+            SignupResult conflict = findSignupConflict(username, email);
+            if (conflict != null) {
+                logger.warn("Signup failed for username '{}', email '{}': {} (concurrent signup)", username, email, conflict);
+                return conflict;
+            }
+            roles.remove(roleName);
+            logger.error("Error creating user: {}, error: {}", username, e.getMessage(), e);
+            return SignupResult.FAILED;
         } catch (Exception e) {
-            logger.error("Error creating user: {}, error: {}", signupRequest.getUsername(), e.getMessage(), e);
-            return false;
+            logger.error("Error creating user: {}, error: {}", username, e.getMessage(), e);
+            return SignupResult.FAILED;
+        }
+    }
+
+    private SignupResult findSignupConflict(String username, String email) {
+        List<Object[]> matches = userRepository.findUsernameOrEmailMatches(username, email);
+        if (matches.isEmpty()) return null;
+        for (Object[] match : matches) {
+            if (username.equals(match[0])) return SignupResult.USERNAME_TAKEN;
         }
+        return SignupResult.EMAIL_TAKEN;
+    }
+
+    /**
+     * Roles are a handful of rows that never change, so each is loaded (or created) once
+     */
+    private Role getRole(RoleName roleName) {
+        return roles.computeIfAbsent(roleName, name -> roleRepository.findByName(name).orElseGet(() -> {
+            logger.info("Creating new role: {}", name);
+            return roleRepository.save(new Role(name));
+        }));
     }
 
     public boolean login(LoginRequest loginRequest) {
         logger.debug("Attempting login for username: {}", loginRequest.getUsername());
         
-        Optional<User> userOptional = userRepository.findByUsername(loginRequest.getUsername());
+        Optional<User> userOptional = findLoginUser(loginRequest.getUsername());
         
         if (userOptional.isPresent()) {
             User user = userOptional.get();
-            boolean passwordMatches = passwordEncoder.matches(loginRequest.getPassword(), user.getPassword());
+            boolean passwordMatches = verifyPassword(user, loginRequest.getPassword());
             
             if (passwordMatches) {
                 logger.info("Login successful for username: {}", loginRequest.getUsername());
@@ -100,6 +142,7 @@ public class AuthService {
             
             return passwordMatches;
         } else {
+            verifyDummyPassword(loginRequest.getPassword());
             logger.warn("Login failed: User not found with username: {}", loginRequest.getUsername());
         }
         
@@ -109,11 +152,11 @@ public class AuthService {
     public User authenticateAndGetUser(LoginRequest loginRequest) {
         logger.debug("Authenticating and retrieving user for username: {}", loginRequest.getUsername());
         
-        Optional<User> userOptional = userRepository.findByUsername(loginRequest.getUsername());
+        Optional<User> userOptional = findLoginUser(loginRequest.getUsername());
         
         if (userOptional.isPresent()) {
             User user = userOptional.get();
-            if (passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            if (verifyPassword(user, loginRequest.getPassword())) {
                 logger.info("Authentication successful for username: {}, role: {}", 
                            user.getUsername(), user.getRole() != null ? user.getRole().getName() : "No role");
                 return user;
@@ -121,14 +164,65 @@ public class AuthService {
                 logger.warn("Authentication failed: Invalid password for username: {}", loginRequest.getUsername());
             }
         } else {
+            verifyDummyPassword(loginRequest.getPassword());
             logger.warn("Authentication failed: User not found with username: {}", loginRequest.getUsername());
         }
         
         return null;
     }
 
+    /**
+     * Look up a user for login. A username recently not found is answered as missing without a
+     * query until its negative-cache entry expires. The availability filter is not consulted: it
+     * only knows users this instance saw, so a user created elsewhere would be locked out.
+     */
+    private Optional<User> findLoginUser(String username) {
+        if (unknownUsernames.isKnownMissing(username)) {
+            return Optional.empty();
+        }
+        Optional<User> user = userRepository.findByUsername(username);
+        if (user.isEmpty()) {
+            unknownUsernames.markMissing(username);
+        }
+        return user;
+    }
+
+    /**
+     * Spend the same hashing work on an unknown username as on a wrong password, so response
+     * times do not reveal which usernames exist
+     */
+    private void verifyDummyPassword(String rawPassword) {
+        passwordEncoder.matches(rawPassword != null ? rawPassword : "", dummyPasswordHash);
+    }
+
+    /**
+     * Check the password and, when it matches a hash made with other parameters than the
+     * current encoder's (algorithm or BCrypt strength), store a fresh hash. A failed rehash
+     * is logged and retried on the next login; it never fails the login itself.
+     */
+    private boolean verifyPassword(User user, String rawPassword) {
+        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+            return false;
+        }
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            try {
+                String upgraded = passwordEncoder.encode(rawPassword);
+                userRepository.updatePassword(user.getId(), upgraded);
+                user.setPassword(upgraded);
+                logger.info("Rehashed password for username: {}", user.getUsername());
+            } catch (Exception e) {
+                logger.warn("Could not rehash password for username: {}: {}", user.getUsername(), e.getMessage());
+            }
+        }
+        return true;
+    }
+
     public boolean isUsernameExists(String username) {
         logger.debug("Checking if username exists: {}", username);
+        if (!availabilityFilter.mightHaveUsername(username)) {
+            logger.debug("Username '{}' exists: false (availability filter)", username);
+            return false;
+        }
         boolean exists = userRepository.existsByUsername(username);
         logger.debug("Username '{}' exists: {}", username, exists);
         return exists;
@@ -136,6 +230,10 @@ public class AuthService {
 
     public boolean isEmailExists(String email) {
         logger.debug("Checking if email exists: {}", email);
+        if (!availabilityFilter.mightHaveEmail(email)) {
+            logger.debug("Email '{}' exists: false (availability filter)", email);
+            return false;
+        }
         boolean exists = userRepository.existsByEmail(email);
         logger.debug("Email '{}' exists: {}", email, exists);
         return exists;
@@ -0,0 +1,13 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.RoleName;
+
+/**
+ * The caller behind a session token, as resolved at login
+ */
+public record AuthenticatedPrincipal(Long userId, String username, RoleName role, int permissions) {
+
+    public boolean has(Permission permission) {
+        return (permissions & permission.bit()) != 0;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.auth.service;
+
+import com.example.auth.config.Workload;
+import com.example.auth.config.WorkloadContext;
+import com.example.auth.dto.AuthorDashboardResponse;
+import com.example.auth.dto.CommitteeDashboardResponse;
+import com.example.auth.dto.PaperSummary;
+import com.example.auth.dto.StudentDashboardResponse;
+import com.example.auth.entity.RoleName;
+import com.example.auth.repository.PaperRepository;
+import com.example.auth.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Builds each role's dashboard in one call instead of one request per list.
+ *
+ * The independent queries of a dashboard (paper rows, tag names, role check, counts) run in
+ * parallel on the application task executor, each in its own read-only transaction, so they
+ * are served by the read pool. The paper rows are fetched once and shared: the committee's
+ * pending list and all counts are derived from them in memory.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    public AuthorDashboardResponse getAuthorDashboard(String username) {
+        long start = System.nanoTime();
+        CompletableFuture<Optional<RoleName>> role = query(() -> userRepository.findRoleNameByUsername(username));
+        CompletableFuture<List<Object[]>> rows = query(() -> paperRepository.findSummaryRowsByAuthor(username));
+        CompletableFuture<List<Object[]>> tags = query(() -> paperRepository.findPaperTagNamesByAuthor(username));
+
+        requireRole(username, join(role), RoleName.AUTHOR);
+        List<PaperSummary> papers = toSummaries(join(rows), join(tags));
+        long published = countPublished(papers);
+
+        logger.debug("Author dashboard for '{}' built in {} ms", username, (System.nanoTime() - start) / 1_000_000);
+        return new AuthorDashboardResponse(username, papers.size(), published, papers.size() - published, papers);
+    }
+
+    public CommitteeDashboardResponse getCommitteeDashboard(String username) {
+        long start = System.nanoTime();
+        CompletableFuture<Optional<RoleName>> role = query(() -> userRepository.findRoleNameByUsername(username));
+        CompletableFuture<List<Object[]>> rows = query(() -> paperRepository.findSummaryRows());
+        CompletableFuture<List<Object[]>> tags = query(() -> paperRepository.findAllPaperTagNames());
+        CompletableFuture<Long> publishedByMe = query(() -> paperRepository.countPublishedByCommittee(username));
+
+        requireRole(username, join(role), RoleName.COMMITTEE);
+        List<PaperSummary> papers = toSummaries(join(rows), join(tags));
+        List<PaperSummary> pending = new ArrayList<>();
+        for (PaperSummary paper : papers) {
+            if (paper.getPublicationDate() == null) {
+                pending.add(paper);
+            }
+        }
+
+        logger.debug("Committee dashboard for '{}' built in {} ms", username, (System.nanoTime() - start) / 1_000_000);
+        return new CommitteeDashboardResponse(username, papers.size(), pending.size(), join(publishedByMe),
+                pending, papers);
+    }
+
+    public StudentDashboardResponse getStudentDashboard() {
+        long start = System.nanoTime();
+        CompletableFuture<List<Object[]>> rows = query(() -> paperRepository.findSummaryRows());
+        CompletableFuture<List<Object[]>> tags = query(() -> paperRepository.findAllPaperTagNames());
+
+        List<PaperSummary> papers = toSummaries(join(rows), join(tags));
+
+        logger.debug("Student dashboard built in {} ms", (System.nanoTime() - start) / 1_000_000);
+        return new StudentDashboardResponse(papers.size(), countPublished(papers), papers);
+    }
+
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            // Template transactions are not routed by WorkloadRoutingAspect; select the read pool here
+            Workload previous = WorkloadContext.enter(Workload.READ);
+            try {
+                return readOnlyTransaction.execute(status -> query.get());
+            } finally {
+                WorkloadContext.restore(previous);
+            }
+        }, taskExecutor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private static void requireRole(String username, Optional<RoleName> role, RoleName expected) {
+        if (role.isEmpty()) {
+            throw new RuntimeException("User not found: " + username);
+        }
+        if (role.get() != expected) {
+            throw new RuntimeException("User '" + username + "' does not have " + expected + " role");
+        }
+    }
+
+    private static List<PaperSummary> toSummaries(List<Object[]> rows, List<Object[]> tagRows) {
+        Map<Long, List<String>> tagsByPaper = new HashMap<>();
+        for (Object[] pair : tagRows) {
+            tagsByPaper.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((String) pair[1]);
+        }
+        List<PaperSummary> papers = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            papers.add(new PaperSummary(id, (String) row[1], (String) row[2], (String) row[3], (Long) row[8], (String) row[4],
+                    (String) row[5], (LocalDateTime) row[6], (LocalDateTime) row[7],
+                    tagsByPaper.getOrDefault(id, Collections.emptyList())));
+        }
+        return papers;
+    }
+
+    private static long countPublished(List<PaperSummary> papers) {
+        long published = 0;
+        for (PaperSummary paper : papers) {
+            if (paper.getPublicationDate() != null) published++;
+        }
+        return published;
+    }
+}
@@ -9,18 +9,59 @@ import com.example.auth.repository.RoleRepository;
 import com.example.auth.repository.UserRepository;
 import com.example.auth.repository.PaperRepository;
 import com.example.auth.repository.TagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
-
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Seeds the sample roles, users, tags and papers, only when the "seed" profile is active
+ * (the default "dev" profile includes it; see application.properties).
+ *
+ * Every step is idempotent: each looks up what already exists in one query and inserts only
+ * what is missing, and papers are added only to an empty papers table. Roles and tags do not
+ * depend on each other and are seeded in parallel; users wait for roles, papers for both.
+ *
+ * The sample password hashes are precomputed so seeding does no BCrypt work. They are plain
+ * strength-10 BCrypt; AuthService rehashes them on first login if the configured encoder is
+ * stronger or uses another algorithm.
+ */
 @Service
+@Profile("seed")
 public class DataInitializationService implements CommandLineRunner {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializationService.class);
+
+    // BCrypt (strength 10) of "password123", one salt per user
+    private static final String[][] SAMPLE_USERS = {
+        {"student1", "student1@example.com", "STUDENT", "{bcrypt}$2a$10$oSLA9H56RXpiTkZkmhjYAu46.ytnzxCRqxL8EesOCfKKXlOlWimIu"},
+        {"author1", "author1@example.com", "AUTHOR", "{bcrypt}$2a$10$SMV/dtYwBEsjP2pc/0eONOiNBXKbUUVVNhK3wiL6aJm/bv7Z3vTT2"},
+        {"author2", "author2@example.com", "AUTHOR", "{bcrypt}$2a$10$5l4JmFMTLD2rUaxvUg33HOLsY1KehiRcrWFmPYcyw9ornrBCmtRiK"},
+        {"committee1", "committee1@example.com", "COMMITTEE", "{bcrypt}$2a$10$Kq8HTW5MoH7hg7n3PYqGHOgMz1J7h/ex4apymiVem2z8eWM81K3Fq"}
+    };
+
+    private static final String[][] SAMPLE_TAGS = {
+        {"Artificial Intelligence", "Research related to AI and machine learning"},
+        {"Database Systems", "Database management and design"},
+        {"Web Development", "Full-stack web application development"},
+        {"Cybersecurity", "Information security and data protection"}
+    };
+
     @Autowired
     private RoleRepository roleRepository;
 
@@ -33,122 +74,118 @@ public class DataInitializationService implements CommandLineRunner {
     @Autowired
     private TagRepository tagRepository;
 
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
 
     @Override
     public void run(String... args) throws Exception {
-        initializeDatabase();
+        long start = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        CompletableFuture<Map<RoleName, Role>> roles = step(transaction, this::seedRoles);
+        CompletableFuture<Map<String, Tag>> tags = step(transaction, this::seedTags);
+        CompletableFuture<Map<String, User>> users = roles.thenApplyAsync(
+            roleMap -> transaction.execute(status -> seedUsers(roleMap)), taskExecutor);
+        int papers = users.thenCombine(tags,
+            (userMap, tagMap) -> transaction.execute(status -> seedPapers(userMap, tagMap))).join();
+
+        logger.info("Sample data seeded in {} ms ({} papers added); sample users: student1, author1, author2, "
+                   + "committee1 / password123", (System.nanoTime() - start) / 1_000_000, papers);
     }
 
-    private void initializeDatabase() {
-        // Check if data already exists
-        if (roleRepository.count() > 0) {
-            System.out.println("Database already initialized. Skipping data initialization.");
-            return;
-        }
+    private <T> CompletableFuture<T> step(TransactionTemplate transaction, Supplier<T> step) {
+        return CompletableFuture.supplyAsync(() -> transaction.execute(status -> step.get()), taskExecutor);
+    }
 
-        System.out.println("Initializing database with sample data...");
+    private Map<RoleName, Role> seedRoles() {
+        Map<RoleName, Role> roles = new EnumMap<>(RoleName.class);
+        for (Role role : roleRepository.findAll()) {
+            roles.put(role.getName(), role);
+        }
+        for (RoleName name : RoleName.values()) {
+            if (!roles.containsKey(name)) {
+                roles.put(name, roleRepository.save(new Role(name)));
+            }
+        }
+        return roles;
+    }
 
-        // Create Roles
-        Role studentRole = createRoleIfNotExists(RoleName.STUDENT);
-        Role authorRole = createRoleIfNotExists(RoleName.AUTHOR);
-        Role committeeRole = createRoleIfNotExists(RoleName.COMMITTEE);
+    private Map<String, Tag> seedTags() {
+        List<String> names = new ArrayList<>();
+        for (String[] tag : SAMPLE_TAGS) {
+            names.add(tag[0]);
+        }
+        Map<String, Tag> tags = new HashMap<>();
+        for (Tag tag : tagRepository.findByNameIn(names)) {
+            tags.put(tag.getName(), tag);
+        }
+        for (String[] tag : SAMPLE_TAGS) {
+            if (!tags.containsKey(tag[0])) {
+                tags.put(tag[0], tagRepository.save(new Tag(tag[0], tag[1])));
+            }
+        }
+        return tags;
+    }
 
-        // Create Sample Users
-        User student1 = createUser("student1", "student1@example.com", "password123", studentRole);
-        User author1 = createUser("author1", "author1@example.com", "password123", authorRole);
-        User author2 = createUser("author2", "author2@example.com", "password123", authorRole);
-        User committee1 = createUser("committee1", "committee1@example.com", "password123", committeeRole);
+    private Map<String, User> seedUsers(Map<RoleName, Role> roles) {
+        List<String> usernames = new ArrayList<>();
+        for (String[] user : SAMPLE_USERS) {
+            usernames.add(user[0]);
+        }
+        Map<String, User> users = new HashMap<>();
+        for (User user : userRepository.findByUsernameIn(usernames)) {
+            users.put(user.getUsername(), user);
+        }
+        for (String[] user : SAMPLE_USERS) {
+            if (!users.containsKey(user[0])) {
+                Role role = roles.get(RoleName.valueOf(user[2]));
+                users.put(user[0], userRepository.save(new User(user[0], user[1], user[3], role)));
+            }
+        }
+        return users;
+    }
 
-        // Create Sample Tags
-        Tag aiTag = createTag("Artificial Intelligence", "Research related to AI and machine learning");
-        Tag dbTag = createTag("Database Systems", "Database management and design");
-        Tag webTag = createTag("Web Development", "Full-stack web application development");
-        Tag securityTag = createTag("Cybersecurity", "Information security and data protection");
+    private int seedPapers(Map<String, User> users, Map<String, Tag> tags) {
+        if (paperRepository.count() > 0) {
+            return 0;
+        }
+        User committee1 = users.get("committee1");
 
-        // Create Sample Papers
-        Paper paper1 = createPaper(
+        Paper paper1 = new Paper(
             "Machine Learning in Healthcare",
             "This paper explores the applications of machine learning algorithms in healthcare diagnostics and treatment planning.",
             "Machine learning has revolutionized healthcare by providing intelligent solutions for diagnosis, treatment, and patient care. This comprehensive study examines various ML algorithms including supervised learning techniques like Random Forest and SVM for medical image analysis, and unsupervised learning methods for pattern recognition in patient data. We present case studies from radiology, pathology, and personalized medicine, demonstrating improved accuracy and efficiency. The paper also addresses ethical considerations, data privacy concerns, and regulatory compliance in healthcare AI. Our findings suggest that ML can reduce diagnostic errors by up to 23% while improving treatment outcomes. Future research directions include federated learning for multi-institutional collaboration and explainable AI for clinical decision support.",
-            author1
+            users.get("author1")
         );
-        paper1.getTags().add(aiTag);
+        paper1.getTags().add(tags.get("Artificial Intelligence"));
+        paper1.setPublishedByCommittee(committee1);
+        paper1.setPublicationDate(LocalDateTime.now().minusDays(5));
 
-        Paper paper2 = createPaper(
+        Paper paper2 = new Paper(
             "Distributed Database Design Patterns",
             "A comprehensive study of modern distributed database architectures and their implementation strategies.",
             "This paper presents a detailed analysis of distributed database design patterns used in modern scalable applications. We explore various consistency models including eventual consistency, strong consistency, and causal consistency, examining their trade-offs in terms of performance and data integrity. The study covers popular distributed database systems like MongoDB, Cassandra, and CockroachDB, analyzing their architectural decisions and use cases. We present performance benchmarks comparing ACID transactions versus BASE properties across different workload patterns. The paper includes practical implementation guidelines for choosing appropriate sharding strategies, replication methods, and consistency levels based on application requirements. Case studies from e-commerce, social media, and financial services demonstrate real-world applications of these patterns.",
-            author2
+            users.get("author2")
         );
-        paper2.getTags().add(dbTag);
+        paper2.getTags().add(tags.get("Database Systems"));
 
-        Paper paper3 = createPaper(
+        Paper paper3 = new Paper(
             "Modern Web Security Vulnerabilities",
             "An analysis of contemporary web application security threats and mitigation strategies.",
             "Web application security remains a critical concern as applications become more complex and interconnected. This paper examines emerging security vulnerabilities in modern web applications, including advanced XSS attacks, CSRF exploits, and supply chain vulnerabilities through third-party dependencies. We analyze the OWASP Top 10 2023 updates and discuss new attack vectors such as client-side prototype pollution and server-side template injection. The study includes practical mitigation strategies including Content Security Policy (CSP) implementation, secure coding practices, and automated security testing integration. We present a comprehensive security framework for full-stack applications covering authentication, authorization, input validation, and secure communication protocols. Real-world case studies demonstrate the financial and reputational impact of security breaches and the ROI of proactive security measures.",
-            author1
+            users.get("author1")
         );
-        paper3.getTags().add(webTag);
-        paper3.getTags().add(securityTag);
-
-        // Save papers
-        paperRepository.save(paper1);
-        paperRepository.save(paper2);
-        paperRepository.save(paper3);
-
-        // Publish some papers (simulate committee member publishing)
-        paper1.setPublishedByCommittee(committee1);
-        paper1.setPublicationDate(LocalDateTime.now().minusDays(5));
-        paperRepository.save(paper1);
-
+        paper3.getTags().add(tags.get("Web Development"));
+        paper3.getTags().add(tags.get("Cybersecurity"));
         paper3.setPublishedByCommittee(committee1);
         paper3.setPublicationDate(LocalDateTime.now().minusDays(2));
-        paperRepository.save(paper3);
-
-        System.out.println("Database initialization completed successfully!");
-        System.out.println("Sample users created:");
-        System.out.println("- student1 / password123 (STUDENT role)");
-        System.out.println("- author1 / password123 (AUTHOR role)");
-        System.out.println("- author2 / password123 (AUTHOR role)");
-        System.out.println("- committee1 / password123 (COMMITTEE role)");
-        System.out.println("Sample papers and relationships created successfully.");
-    }
-
-    private Role createRoleIfNotExists(RoleName roleName) {
-        return roleRepository.findByName(roleName)
-            .orElseGet(() -> {
-                Role role = new Role(roleName);
-                return roleRepository.save(role);
-            });
-    }
-
-    private User createUser(String username, String email, String password, Role role) {
-        User user = new User(
-            username,
-            email,
-            passwordEncoder.encode(password),
-            role
-        );
-        return userRepository.save(user);
-    }
-
-    private Tag createTag(String name, String description) {
-        Tag tag = new Tag();
-        tag.setName(name);
-        tag.setDescription(description);
-        return tagRepository.save(tag);
-    }
 
-    private Paper createPaper(String title, String abstractText, String content, User author) {
-        Paper paper = new Paper();
-        paper.setTitle(title);
-        paper.setAbstractText(abstractText);
-        paper.setContent(content);
-        paper.setAuthor(author);
-        paper.setCreatedAt(LocalDateTime.now().minusDays((long) (Math.random() * 30)));
-        paper.setUpdatedAt(paper.getCreatedAt());
-        paper.setTags(new HashSet<>());
-        return paper;
+        // Published papers are saved already published: one insert each instead of insert + update
+        paperRepository.saveAll(List.of(paper1, paper2, paper3));
+        return 3;
     }
 }
@@ -0,0 +1,89 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.DocumentListing;
+import com.example.auth.repository.DocumentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class DocumentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentService.class);
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentViewCounter viewCounter;
+
+    @Autowired
+    private KeywordIndexService keywordIndex;
+
+    @Transactional(readOnly = true)
+    public List<DocumentListing> getListings() {
+        logger.debug("Retrieving document listings");
+        List<DocumentListing> listings = documentRepository.findAllListings();
+        listings.forEach(this::applyPendingViews);
+        logger.debug("Retrieved {} document listings", listings.size());
+        return listings;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DocumentListing> getPublishedListings() {
+        logger.debug("Retrieving published document listings");
+        List<DocumentListing> listings = documentRepository.findPublishedListings();
+        listings.forEach(this::applyPendingViews);
+        logger.debug("Retrieved {} published document listings", listings.size());
+        return listings;
+    }
+
+    /**
+     * Record a view and return the document listing. The view is absorbed by the
+     * write-behind counter, so reading a document never updates its row.
+     */
+    @Transactional(readOnly = true)
+    public Optional<DocumentListing> viewDocument(Long documentId) {
+        logger.debug("Viewing document ID: {}", documentId);
+        Optional<DocumentListing> listing = documentRepository.findListingById(documentId);
+        if (listing.isEmpty()) {
+            logger.warn("Document not found with ID: {}", documentId);
+            return listing;
+        }
+        viewCounter.recordView(documentId);
+        applyPendingViews(listing.get());
+        return listing;
+    }
+
+    /**
+     * Documents of any type carrying all given keywords. Ids come from the keyword index and
+     * a single polymorphic query loads the listings, so no element collection is fetched.
+     */
+    @Transactional(readOnly = true)
+    public List<DocumentListing> findByKeywords(List<String> keywords) {
+        logger.debug("Finding documents by keywords: {}", keywords);
+        Set<Long> ids = keywordIndex.findDocumentIdsMatchingAll(keywords);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<DocumentListing> listings = documentRepository.findListingsByIds(ids);
+        listings.forEach(this::applyPendingViews);
+        logger.debug("Found {} documents for keywords: {}", listings.size(), keywords);
+        return listings;
+    }
+
+    private void applyPendingViews(DocumentListing listing) {
+        long pending = viewCounter.getPendingViews(listing.getId());
+        if (pending > 0) {
+            int stored = listing.getViewCount() != null ? listing.getViewCount() : 0;
+            listing.setViewCount((int) Math.min(Integer.MAX_VALUE, stored + pending));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind aggregation of document view counts.
+ *
+ * Views are absorbed by a striped LongAdder per document id instead of updating the
+ * document row on every read. A scheduled flusher applies the accumulated deltas as one
+ * JDBC batch of "view_count = view_count + ?" statements. At most one flush interval or
+ * max-pending views (whichever comes first) can be lost if the process dies before a flush;
+ * failed flushes put their deltas back so nothing is dropped while the process is alive.
+ */
+@Service
+public class DocumentViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentViewCounter.class);
+
+    private static final String INCREMENT_SQL =
+        "UPDATE documents SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${documents.view-counter.max-pending:10000}")
+    private long maxPending;
+
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final LongAdder pendingTotal = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void recordView(Long documentId) {
+        if (documentId == null) return;
+
+        pendingViews.computeIfAbsent(documentId, id -> new LongAdder()).increment();
+        pendingTotal.increment();
+
+        // Bound the number of increments at risk without blocking readers behind a running flush
+        if (pendingTotal.sum() >= maxPending && flushLock.tryLock()) {
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Views recorded for a document that have not reached the database yet
+     */
+    public long getPendingViews(Long documentId) {
+        LongAdder adder = pendingViews.get(documentId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${documents.view-counter.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        logger.info("Flushing pending document views before shutdown");
+        flush();
+    }
+
+    private void flushPending() {
+        List<Object[]> batch = new ArrayList<>();
+        List<LongAdder> drained = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) continue;
+
+            // Subtract what we read instead of sumThenReset(), so increments racing with the
+            // drain stay in the adder for the next flush rather than being lost
+            adder.add(-delta);
+            pendingTotal.add(-delta);
+            batch.add(new Object[]{delta, entry.getKey()});
+            drained.add(adder);
+        }
+
+        if (batch.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+            logger.debug("Flushed view counts for {} documents", batch.size());
+        } catch (Exception e) {
+            logger.error("Failed to flush view counts for {} documents, will retry: {}", batch.size(), e.getMessage(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                long delta = (Long) batch.get(i)[0];
+                drained.get(i).add(delta);
+                pendingTotal.add(delta);
+            }
+        }
+    }
+}
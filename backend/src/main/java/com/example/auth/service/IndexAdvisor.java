@@ -0,0 +1,290 @@
+package com.example.auth.service;
+
+import com.example.auth.config.ExecutedStatement;
+import com.example.auth.config.RepositoryCallTracker;
+import com.example.auth.config.StatementListener;
+import com.example.auth.dto.IndexAdvisorFinding;
+import com.example.auth.dto.IndexAdvisorReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Dev-profile index advisor, off unless app.index-advisor.enabled is set: captures the statements
+ * the application runs (SQL, bind values and the repository method that issued them), then on
+ * request EXPLAINs each one with its last bind values and reports full scans of tables holding at
+ * least app.index-advisor.min-rows rows.
+ *
+ * For each scan it lists the table's columns used in WHERE and JOIN conditions and suggests an
+ * index on them (equality columns first), unless an index already starts with that column, in
+ * which case the planner chose the scan anyway and the report says so. Plans are read from
+ * PostgreSQL ("Seq Scan on table alias") and H2 (a table or index comment without a condition).
+ * Plans print the bind values as literals, so only point it at a database with test data.
+ */
+@Service
+@Profile("dev")
+@ConditionalOnProperty(name = "app.index-advisor.enabled", havingValue = "true")
+public class IndexAdvisor implements StatementListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexAdvisor.class);
+
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(select|with|update|delete)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern POSTGRES_SCAN = Pattern.compile("Seq Scan on (\\w+)(?: (\\w+))?");
+    private static final Pattern H2_SCAN = Pattern.compile(
+            "\"PUBLIC\"\\.\"(\\w+)\"(?: \"(\\w+)\")?\\s*/\\* PUBLIC\\.[\\w.]+ \\*/");
+    private static final Pattern EQUALITY = Pattern.compile("^\\s*(=|in\\b|is\\b)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern RANGE = Pattern.compile("^\\s*(<>|!=|<=|>=|<|>|like\\b|between\\b|not\\b)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern REVERSED = Pattern.compile("(=|<>|!=|<=|>=|<|>)\\s*$");
+
+    private static final String NO_REPOSITORY = "(not via a repository)";
+
+    @Value("${app.index-advisor.min-rows:1000}")
+    private long minRows;
+
+    @Value("${app.index-advisor.max-statements:500}")
+    private int maxStatements;
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Statements run by analyze() itself are not captured
+    private final ThreadLocal<Boolean> analyzing = ThreadLocal.withInitial(() -> false);
+
+    private final Map<String, CapturedStatement> captured = new ConcurrentHashMap<>();
+
+    private static final class CapturedStatement {
+        final String sql;
+        final AtomicLong executions = new AtomicLong();
+        final Set<String> repositoryMethods = new ConcurrentSkipListSet<>();
+        volatile ExecutedStatement sample;
+
+        CapturedStatement(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    private record Scan(String table, String alias) {
+    }
+
+    @Override
+    public void statementExecuted(ExecutedStatement executed) {
+        String sql = executed.getSql();
+        if (analyzing.get() || !EXPLAINABLE.matcher(sql).find() || sql.contains("flyway_schema_history")) {
+            return;
+        }
+        CapturedStatement statement = captured.get(sql);
+        if (statement == null) {
+            if (captured.size() >= maxStatements) return;
+            statement = captured.computeIfAbsent(sql, CapturedStatement::new);
+        }
+        statement.executions.incrementAndGet();
+        statement.sample = executed;
+        String repositoryMethod = RepositoryCallTracker.current();
+        statement.repositoryMethods.add(repositoryMethod != null ? repositoryMethod : NO_REPOSITORY);
+    }
+
+    public void clear() {
+        captured.clear();
+    }
+
+    public IndexAdvisorReport analyze() {
+        analyzing.set(true);
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean postgres = metaData.getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres");
+            Map<String, Long> rowCounts = new HashMap<>();
+            Map<String, Map<String, List<String>>> indexes = new HashMap<>();
+
+            List<IndexAdvisorFinding> findings = new ArrayList<>();
+            int explained = 0;
+            int failed = 0;
+            for (CapturedStatement statement : captured.values()) {
+                try {
+                    String plan = explain(connection, statement.sample);
+                    for (Scan scan : scans(plan, postgres)) {
+                        Long rows = rowCounts.get(scan.table());
+                        if (rows == null) {
+                            rows = countRows(connection, scan.table());
+                            rowCounts.put(scan.table(), rows);
+                        }
+                        if (rows < minRows) continue;
+                        Map<String, List<String>> tableIndexes = indexes.get(scan.table());
+                        if (tableIndexes == null) {
+                            tableIndexes = indexesOf(metaData, scan.table());
+                            indexes.put(scan.table(), tableIndexes);
+                        }
+                        findings.add(finding(statement, scan, rows, plan, tableIndexes));
+                    }
+                    explained++;
+                } catch (SQLException e) {
+                    failed++;
+                    logger.debug("Index advisor could not analyze [{}]: {}", statement.sql, e.getMessage());
+                }
+            }
+            findings.sort(Comparator.comparingLong(IndexAdvisorFinding::getTableRows).reversed()
+                    .thenComparing(Comparator.comparingLong(IndexAdvisorFinding::getExecutions).reversed()));
+
+            for (IndexAdvisorFinding finding : findings) {
+                if (finding.getSuggestedIndex() != null) {
+                    logger.info("Index advisor: {} ({} rows) scanned by {}; suggest: {}", finding.getTable(),
+                               finding.getTableRows(), finding.getRepositoryMethods(), finding.getSuggestedIndex());
+                }
+            }
+            return new IndexAdvisorReport(LocalDateTime.now(), metaData.getDatabaseProductName(), minRows,
+                    captured.size(), explained, failed, findings);
+        } catch (SQLException e) {
+            throw new RuntimeException("Index advisor could not read query plans: " + e.getMessage(), e);
+        } finally {
+            analyzing.remove();
+        }
+    }
+
+    private IndexAdvisorFinding finding(CapturedStatement statement, Scan scan, long rows, String plan,
+                                        Map<String, List<String>> tableIndexes) {
+        List<String> columns = predicateColumns(statement.sql, scan);
+        String suggestion = null;
+        String note;
+        if (columns.isEmpty()) {
+            note = "No filter or join condition on this table: the statement reads all of it";
+        } else {
+            String existing = null;
+            for (Map.Entry<String, List<String>> index : tableIndexes.entrySet()) {
+                if (index.getValue().get(0).equalsIgnoreCase(columns.get(0))) {
+                    existing = index.getKey();
+                    break;
+                }
+            }
+            if (existing != null) {
+                note = "Index " + existing + " starts with " + columns.get(0)
+                        + " but the planner scanned anyway (low selectivity, or statistics out of date)";
+            } else {
+                String table = scan.table().toLowerCase(Locale.ROOT);
+                suggestion = "create index idx_" + table + "_" + String.join("_", columns) + " on " + table
+                        + " (" + String.join(", ", columns) + ")";
+                note = "No index starts with " + columns.get(0);
+            }
+        }
+        return new IndexAdvisorFinding(scan.table().toLowerCase(Locale.ROOT), rows, statement.sql,
+                new ArrayList<>(statement.repositoryMethods), statement.executions.get(),
+                statement.sample.getBindShape(), columns, suggestion, note, plan);
+    }
+
+    private static String explain(Connection connection, ExecutedStatement sample) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sample.getSql())) {
+            sample.bindTo(explain);
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.add(rows.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static List<Scan> scans(String plan, boolean postgres) {
+        List<Scan> scans = new ArrayList<>();
+        Matcher matcher = (postgres ? POSTGRES_SCAN : H2_SCAN).matcher(plan);
+        while (matcher.find()) {
+            scans.add(new Scan(matcher.group(1), matcher.group(2)));
+        }
+        return scans;
+    }
+
+    /**
+     * Columns of the scanned table compared in the statement, equality comparisons first; without
+     * an alias (single-table UPDATE or DELETE) unqualified columns after WHERE are used
+     */
+    private static List<String> predicateColumns(String sql, Scan scan) {
+        Set<String> equality = new LinkedHashSet<>();
+        Set<String> range = new LinkedHashSet<>();
+        String reference;
+        String searched;
+        if (scan.alias() != null) {
+            reference = "\\b" + Pattern.quote(scan.alias()) + "\\.(\\w+)";
+            searched = sql;
+        } else {
+            int where = sql.toLowerCase(Locale.ROOT).indexOf(" where ");
+            if (where < 0) return List.of();
+            reference = "(?<![.\\w])(\\w+)(?=\\s*(?:=|<|>|!=|\\s+in\\b|\\s+is\\b|\\s+like\\b|\\s+between\\b))";
+            searched = sql.substring(where);
+        }
+        Matcher matcher = Pattern.compile(reference, Pattern.CASE_INSENSITIVE).matcher(searched);
+        while (matcher.find()) {
+            String column = matcher.group(1).toLowerCase(Locale.ROOT);
+            String after = searched.substring(matcher.end());
+            String before = searched.substring(0, matcher.start());
+            if (EQUALITY.matcher(after).find() || before.endsWith("=")) {
+                equality.add(column);
+            } else if (RANGE.matcher(after).find() || REVERSED.matcher(before).find()) {
+                range.add(column);
+            }
+        }
+        List<String> columns = new ArrayList<>(equality);
+        for (String column : range) {
+            if (!equality.contains(column)) {
+                // One range column after the equality ones; an index cannot use more than that
+                columns.add(column);
+                break;
+            }
+        }
+        return columns;
+    }
+
+    private static long countRows(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM \"" + table + "\"")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    /**
+     * Index name to its columns in order; the table name is as printed in the plan, i.e. as stored
+     */
+    private static Map<String, List<String>> indexesOf(DatabaseMetaData metaData, String table) throws SQLException {
+        Map<String, TreeMap<Short, String>> columns = new HashMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(null, null, table, false, true)) {
+            while (rows.next()) {
+                String index = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (index != null && column != null) {
+                    columns.computeIfAbsent(index, key -> new TreeMap<>()).put(rows.getShort("ORDINAL_POSITION"), column);
+                }
+            }
+        }
+        Map<String, List<String>> indexes = new HashMap<>();
+        columns.forEach((index, ordered) -> indexes.put(index, new ArrayList<>(ordered.values())));
+        return indexes;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.inheritance.AbstractDocument;
+import com.example.auth.repository.DocumentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory keyword -> document id index over document_keywords.
+ *
+ * Built once at startup from (document id, keyword) pairs and kept current by
+ * DocumentKeywordListener. Until the first build completes, lookups fall back to the
+ * indexed document_keywords table.
+ */
+@Service
+public class KeywordIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeywordIndexService.class);
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    private final Map<String, Set<Long>> documentsByKeyword = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> keywordsByDocument = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("Building keyword index");
+        List<Object[]> pairs = documentRepository.findAllKeywordPairs();
+
+        documentsByKeyword.clear();
+        keywordsByDocument.clear();
+        for (Object[] pair : pairs) {
+            add((Long) pair[0], (String) pair[1]);
+        }
+        ready = true;
+        logger.info("Keyword index built with {} keywords across {} documents",
+                   documentsByKeyword.size(), keywordsByDocument.size());
+    }
+
+    /**
+     * Replace the indexed keywords of a document with its current keyword set
+     */
+    public synchronized void indexDocument(Long documentId, Collection<String> keywords) {
+        if (documentId == null) return;
+        removeDocument(documentId);
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.trim().isEmpty()) {
+                add(documentId, AbstractDocument.normalizeKeyword(keyword));
+            }
+        }
+    }
+
+    public synchronized void removeDocument(Long documentId) {
+        if (documentId == null) return;
+        Set<String> previous = keywordsByDocument.remove(documentId);
+        if (previous == null) return;
+        for (String keyword : previous) {
+            documentsByKeyword.computeIfPresent(keyword, (k, ids) -> {
+                ids.remove(documentId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public Set<Long> findDocumentIds(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) return Collections.emptySet();
+        String normalized = AbstractDocument.normalizeKeyword(keyword);
+
+        if (!ready) {
+            logger.debug("Keyword index not built yet, querying document_keywords for '{}'", normalized);
+            return new HashSet<>(documentRepository.findIdsByKeyword(normalized));
+        }
+        Set<Long> ids = documentsByKeyword.get(normalized);
+        return ids != null ? Set.copyOf(ids) : Collections.emptySet();
+    }
+
+    /**
+     * Documents tagged with every one of the given keywords
+     */
+    public Set<Long> findDocumentIdsMatchingAll(Collection<String> keywords) {
+        Set<Long> result = null;
+        for (String keyword : keywords) {
+            Set<Long> ids = findDocumentIds(keyword);
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) break;
+        }
+        return result != null ? result : Collections.emptySet();
+    }
+
+    private void add(Long documentId, String keyword) {
+        documentsByKeyword.computeIfAbsent(keyword, k -> ConcurrentHashMap.newKeySet()).add(documentId);
+        keywordsByDocument.computeIfAbsent(documentId, id -> ConcurrentHashMap.newKeySet()).add(keyword);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+
+/**
+ * Login attempt limits per username and per client IP, checked before any database lookup
+ * or password hash so a credential-stuffing burst costs a map lookup per request.
+ *
+ * Every attempt counts; a successful login clears its username's counter (not the IP's, which
+ * may be shared by an attacker and a real user).
+ */
+@Service
+public class LoginThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+
+    @Value("${app.login.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.login.rate-limit.window-seconds:60}")
+    private long windowSeconds;
+
+    @Value("${app.login.rate-limit.per-username:10}")
+    private int perUsername;
+
+    @Value("${app.login.rate-limit.per-ip:50}")
+    private int perIp;
+
+    @Value("${app.login.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${app.login.rate-limit.stripes:64}")
+    private int stripes;
+
+    private SlidingWindowRateLimiter usernameLimiter;
+    private SlidingWindowRateLimiter ipLimiter;
+
+    @PostConstruct
+    public void init() {
+        usernameLimiter = new SlidingWindowRateLimiter(perUsername, windowSeconds * 1000, maxKeys, stripes);
+        ipLimiter = new SlidingWindowRateLimiter(perIp, windowSeconds * 1000, maxKeys, stripes);
+    }
+
+    /**
+     * Admit or reject one login attempt; an admitted attempt is counted against both keys, a
+     * rejected one against neither
+     *
+     * @return 0 if the attempt may proceed, otherwise the seconds to wait before retrying
+     */
+    public long tryAcquire(String username, String clientIp) {
+        if (!enabled) return 0;
+        long now = System.currentTimeMillis();
+        String userKey = usernameKey(username);
+
+        long waitMillis = ipLimiter.tryAcquire(clientIp, now);
+        if (waitMillis == 0) {
+            waitMillis = usernameLimiter.tryAcquire(userKey, now);
+            if (waitMillis > 0) {
+                ipLimiter.release(clientIp, now);
+            }
+        }
+        if (waitMillis > 0) {
+            logger.warn("Login throttled for username: {}, IP: {}, retry after {} ms", username, clientIp, waitMillis);
+            return Math.max(1, (waitMillis + 999) / 1000);
+        }
+        return 0;
+    }
+
+    public void loginSucceeded(String username) {
+        if (enabled) {
+            usernameLimiter.reset(usernameKey(username));
+        }
+    }
+
+    // Case variants of a username share one budget
+    private static String usernameKey(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+}
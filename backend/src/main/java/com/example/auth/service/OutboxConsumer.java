@@ -0,0 +1,22 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Receives outbox events from OutboxPoller, in id order and at least once.
+ *
+ * apply() runs inside the poller's transaction and must be idempotent: if it throws, or
+ * the process stops before the consumer's offset is committed, the same events are
+ * delivered again.
+ */
+public interface OutboxConsumer {
+
+    /**
+     * Stable name under which the consumer's offset is stored
+     */
+    String getConsumerName();
+
+    void apply(List<OutboxEvent> events);
+}
@@ -0,0 +1,199 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.OutboxConsumerOffset;
+import com.example.auth.entity.OutboxEvent;
+import com.example.auth.repository.OutboxConsumerOffsetRepository;
+import com.example.auth.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Delivers outbox events to every OutboxConsumer in batches.
+ *
+ * Each consumer has its own offset. A batch is applied and the offset advanced in one
+ * transaction, so a failing consumer is retried from its last committed offset (at-least-once)
+ * without holding back the others.
+ *
+ * Identity ids are assigned at insert but become visible at commit, so a lower id can appear
+ * after a higher one. Delivery therefore stops at a gap in the ids until the event after the
+ * gap is older than gap-timeout-ms, then moves past it. The skipped ids are remembered and
+ * looked up on every later poll for gap-max-age-ms: one that turns up came from a transaction
+ * that committed late and is delivered then, out of order; the rest were rolled-back inserts.
+ * Open gaps are held in memory only, so an event whose transaction is still running at a
+ * restart is lost to the consumers; the search index refresh picks the paper up regardless.
+ */
+@Service
+public class OutboxPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxPoller.class);
+
+    private static final int MAX_BATCHES_PER_POLL = 10;
+    private static final int MAX_OPEN_GAPS = 1000;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxConsumerOffsetRepository offsetRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private List<OutboxConsumer> consumers;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.gap-timeout-ms:5000}")
+    private long gapTimeoutMs;
+
+    @Value("${app.outbox.gap-max-age-ms:600000}")
+    private long gapMaxAgeMs;
+
+    @Value("${app.outbox.retention-hours:24}")
+    private int retentionHours;
+
+    // consumer name -> ids skipped as gaps -> when they were skipped
+    private final Map<String, ConcurrentSkipListMap<Long, LocalDateTime>> openGaps = new ConcurrentHashMap<>();
+
+    private record Batch(int delivered, List<Long> skipped) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void poll() {
+        for (OutboxConsumer consumer : consumers) {
+            try {
+                deliverLateEvents(consumer);
+                for (int batch = 0; batch < MAX_BATCHES_PER_POLL; batch++) {
+                    Batch result = transactionTemplate.execute(status -> deliverBatch(consumer));
+                    if (result == null) break;
+                    // Only once the offset has moved past them
+                    rememberGaps(consumer, result.skipped());
+                    if (result.delivered() < batchSize) break;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Outbox consumer '{}' failed, will retry: {}", consumer.getConsumerName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Remove events that every consumer has applied and that are past the retention window
+     * (kept that long so SSE clients can resume with Last-Event-ID)
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 30 * * * *}")
+    @Transactional
+    public void purgeDelivered() {
+        Long minOffset = null;
+        for (OutboxConsumer consumer : consumers) {
+            Optional<OutboxConsumerOffset> offset = offsetRepository.findById(consumer.getConsumerName());
+            if (offset.isEmpty()) return;
+            long last = offset.get().getLastEventId();
+            minOffset = minOffset == null ? last : Math.min(minOffset, last);
+        }
+        if (minOffset == null) return;
+        int deleted = outboxEventRepository.deleteDelivered(minOffset, LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            logger.info("Purged {} delivered outbox events", deleted);
+        }
+    }
+
+    private Batch deliverBatch(OutboxConsumer consumer) {
+        OutboxConsumerOffset offset = offsetRepository.findById(consumer.getConsumerName())
+                .orElseGet(() -> new OutboxConsumerOffset(consumer.getConsumerName(), 0L));
+        List<OutboxEvent> events = outboxEventRepository.findBatchAfter(offset.getLastEventId(),
+                PageRequest.of(0, batchSize));
+        List<Long> skipped = new ArrayList<>();
+        List<OutboxEvent> ready = contiguous(events, offset.getLastEventId(), skipped);
+        if (ready.isEmpty()) return new Batch(0, List.of());
+
+        consumer.apply(ready);
+        offset.setLastEventId(ready.get(ready.size() - 1).getId());
+        offsetRepository.save(offset);
+        logger.debug("Delivered {} outbox events to '{}' up to id {}",
+                    ready.size(), consumer.getConsumerName(), offset.getLastEventId());
+        return new Batch(ready.size(), skipped);
+    }
+
+    /**
+     * Deliver events that have appeared in gaps skipped earlier, and forget gaps older than
+     * gap-max-age-ms
+     */
+    private void deliverLateEvents(OutboxConsumer consumer) {
+        ConcurrentSkipListMap<Long, LocalDateTime> gaps = openGaps.get(consumer.getConsumerName());
+        if (gaps == null || gaps.isEmpty()) return;
+
+        LocalDateTime expiry = LocalDateTime.now().minusNanos(gapMaxAgeMs * 1_000_000L);
+        int before = gaps.size();
+        gaps.values().removeIf(skippedAt -> skippedAt.isBefore(expiry));
+        if (gaps.size() < before) {
+            logger.debug("Closed {} outbox id gaps for '{}' as rolled back", before - gaps.size(),
+                        consumer.getConsumerName());
+        }
+        if (gaps.isEmpty()) return;
+
+        List<OutboxEvent> late = transactionTemplate.execute(status -> {
+            List<OutboxEvent> found = new ArrayList<>(outboxEventRepository.findAllById(gaps.keySet()));
+            if (!found.isEmpty()) {
+                found.sort(Comparator.comparing(OutboxEvent::getId));
+                consumer.apply(found);
+            }
+            return found;
+        });
+        if (late == null || late.isEmpty()) return;
+        for (OutboxEvent event : late) {
+            gaps.remove(event.getId());
+        }
+        logger.info("Delivered {} late-committed outbox events to '{}'", late.size(), consumer.getConsumerName());
+    }
+
+    private void rememberGaps(OutboxConsumer consumer, List<Long> skipped) {
+        if (skipped.isEmpty()) return;
+        ConcurrentSkipListMap<Long, LocalDateTime> gaps = openGaps.computeIfAbsent(consumer.getConsumerName(),
+                name -> new ConcurrentSkipListMap<>());
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : skipped) {
+            gaps.putIfAbsent(id, now);
+        }
+        // Lowest ids are the oldest gaps
+        while (gaps.size() > MAX_OPEN_GAPS) {
+            Long oldest = gaps.pollFirstEntry().getKey();
+            logger.warn("Too many open outbox id gaps for '{}', giving up on id {}", consumer.getConsumerName(), oldest);
+        }
+    }
+
+    private List<OutboxEvent> contiguous(List<OutboxEvent> events, long lastEventId, List<Long> skipped) {
+        LocalDateTime gapCutoff = LocalDateTime.now().minusNanos(gapTimeoutMs * 1_000_000L);
+        List<OutboxEvent> ready = new ArrayList<>(events.size());
+        long expected = lastEventId + 1;
+        for (OutboxEvent event : events) {
+            if (event.getId() != expected && event.getCreatedAt().isAfter(gapCutoff)) {
+                // An earlier transaction may still commit the missing ids
+                break;
+            }
+            for (long missing = Math.max(expected, event.getId() - MAX_OPEN_GAPS); missing < event.getId(); missing++) {
+                skipped.add(missing);
+            }
+            ready.add(event);
+            expected = event.getId() + 1;
+        }
+        return ready;
+    }
+}
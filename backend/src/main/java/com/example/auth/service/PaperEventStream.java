@@ -0,0 +1,210 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.OutboxEvent;
+import com.example.auth.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-sent events for paper changes, fed from the outbox.
+ *
+ * Every event carries the outbox id as its SSE id. A reconnecting client sends it back as
+ * Last-Event-ID and is replayed what it missed from the outbox; as delivery is at-least-once,
+ * clients should ignore ids they have already seen.
+ *
+ * Each client has its own queue, drained on the task executor, so the poller only enqueues and
+ * one slow browser never stalls delivery to the others or the poller's transaction. A client
+ * whose queue passes MAX_PENDING is completed; its EventSource reconnects and replays the rest.
+ */
+@Service
+public class PaperEventStream implements OutboxConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaperEventStream.class);
+
+    private static final int MAX_REPLAY = 500;
+    private static final int MAX_PENDING = 1000;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Value("${app.outbox.sse-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+
+    private final class Client {
+        final SseEmitter emitter;
+        final ReentrantLock lock = new ReentrantLock();
+        final Deque<OutboxEvent> pending = new ArrayDeque<>();
+        // Live events are held back until the replay is queued in front of them
+        boolean replayed;
+        boolean draining;
+        boolean closed;
+
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(List<OutboxEvent> events) {
+            lock.lock();
+            try {
+                if (closed) return;
+                if (pending.size() + events.size() > MAX_PENDING) {
+                    logger.debug("SSE client fell {} events behind; closing it so it reconnects", pending.size());
+                    close();
+                    emitter.complete();
+                    return;
+                }
+                pending.addAll(events);
+                scheduleDrain();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void replay(List<OutboxEvent> missed) {
+            lock.lock();
+            try {
+                long lastReplayed = missed.isEmpty() ? Long.MIN_VALUE : missed.get(missed.size() - 1).getId();
+                pending.removeIf(event -> event.getId() <= lastReplayed);
+                for (int i = missed.size() - 1; i >= 0; i--) {
+                    pending.addFirst(missed.get(i));
+                }
+                replayed = true;
+                scheduleDrain();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Called with the lock held
+        private void scheduleDrain() {
+            if (!replayed || draining || closed || pending.isEmpty()) return;
+            draining = true;
+            try {
+                taskExecutor.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining = false;
+                logger.warn("Could not schedule SSE delivery: {}", e.getMessage());
+            }
+        }
+
+        // Sends outside the lock, so enqueue never waits on a slow socket
+        private void drain() {
+            while (true) {
+                OutboxEvent event;
+                lock.lock();
+                try {
+                    event = closed ? null : pending.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (!send(emitter, event)) {
+                    lock.lock();
+                    try {
+                        close();
+                    } finally {
+                        lock.unlock();
+                    }
+                    return;
+                }
+            }
+        }
+
+        // Called with the lock held
+        private void close() {
+            closed = true;
+            pending.clear();
+            clients.remove(this);
+        }
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> {
+            // Completing here ends the response normally; the browser's EventSource reconnects
+            clients.remove(client);
+            emitter.complete();
+        });
+        emitter.onError(e -> clients.remove(client));
+
+        // Registered before the replay query so no event can fall between the two; live events
+        // queue behind the replay and duplicates of replayed ones are dropped
+        clients.add(client);
+        List<OutboxEvent> missed = lastEventId == null ? List.of()
+                : outboxEventRepository.findBatchAfter(lastEventId, PageRequest.of(0, MAX_REPLAY));
+        client.replay(missed);
+        logger.debug("SSE client subscribed ({} connected)", clients.size());
+        return emitter;
+    }
+
+    @Override
+    public String getConsumerName() {
+        return "paper-sse";
+    }
+
+    /**
+     * Queue the events for every connected client; never blocks on a client
+     */
+    @Override
+    public void apply(List<OutboxEvent> events) {
+        for (Client client : clients) {
+            client.enqueue(events);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, OutboxEvent event) {        try {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("eventId", event.getId());
+            data.put("type", event.getEventType().name());
+            data.put("paperId", event.getAggregateId());
+            data.put("occurredAt", event.getCreatedAt());
+            if (event.getPayload() != null) {
+                data.put("payload", objectMapper.readTree(event.getPayload()));
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name(event.getEventType().name())
+                    .data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (JsonProcessingException e) {
+            logger.warn("Skipping outbox event {} with unreadable payload: {}", event.getId(), e.getMessage());
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -1,21 +1,36 @@
 package com.example.auth.service;
 
+import com.example.auth.config.UseWorkload;
+import com.example.auth.config.Workload;
 import com.example.auth.dto.PaperRequest;
+import com.example.auth.dto.PaperSearchResult;
+import com.example.auth.entity.OutboxEventType;
 import com.example.auth.entity.Paper;
 import com.example.auth.entity.Tag;
 import com.example.auth.entity.User;
 import com.example.auth.repository.PaperRepository;
 import com.example.auth.repository.TagRepository;
 import com.example.auth.repository.UserRepository;
+import com.example.auth.search.FuzzySearchService;
+import com.example.auth.search.PaperSearchEngine;
+import com.example.auth.search.SnippetHighlighter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class PaperService {
@@ -31,6 +46,19 @@ public class PaperService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PaperSearchEngine searchEngine;
+
+    @Autowired
+    private FuzzySearchService fuzzySearchService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private SnippetHighlighter snippetHighlighter;
+
+    @Transactional
     public Paper createPaper(PaperRequest paperRequest, String authorUsername) {
         logger.info("Creating paper '{}' for author: {}", paperRequest.getTitle(), authorUsername);
         
@@ -40,7 +68,20 @@ public class PaperService {
             throw new RuntimeException("Author not found");
         }
 
-        User author = userOptional.get();
+        return savePaper(paperRequest, userOptional.get(), authorUsername);
+    }
+
+    /**
+     * Create a paper for an already authorized session; the author is referenced by id
+     * without being loaded
+     */
+    @Transactional
+    public Paper createPaper(PaperRequest paperRequest, AuthenticatedPrincipal author) {
+        logger.info("Creating paper '{}' for author: {}", paperRequest.getTitle(), author.username());
+        return savePaper(paperRequest, userRepository.getReferenceById(author.userId()), author.username());
+    }
+
+    private Paper savePaper(PaperRequest paperRequest, User author, String authorUsername) {
         Paper paper = new Paper(paperRequest.getTitle(), paperRequest.getAbstractText(), 
                                paperRequest.getContent(), author);
 
@@ -61,10 +102,13 @@ public class PaperService {
         }
 
         Paper savedPaper = paperRepository.save(paper);
+        outboxService.append(OutboxEventType.PAPER_CREATED, savedPaper.getId(),
+                paperEventPayload(savedPaper.getTitle(), authorUsername));
         logger.info("Paper created successfully with ID: {}, title: '{}'", savedPaper.getId(), savedPaper.getTitle());
         return savedPaper;
     }
 
+    @Transactional(readOnly = true)
     public List<Paper> searchPapers(String keyword) {
         logger.debug("Searching papers with keyword: '{}'", keyword != null ? keyword : "no keyword");
         
@@ -73,12 +117,60 @@ public class PaperService {
             papers = paperRepository.findPublishedPapersOrderByDate();
             logger.debug("Retrieved {} published papers (no keyword search)", papers.size());
         } else {
-            papers = paperRepository.searchByKeyword(keyword);
+            papers = searchEngine.search(keyword);
             logger.debug("Found {} papers matching keyword: '{}'", papers.size(), keyword);
         }
         return papers;
     }
 
+    /**
+     * Typo-tolerant search on paper titles, author usernames and tag names
+     */
+    public List<Paper> fuzzySearchPapers(String keyword, Double threshold) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return searchPapers(keyword);
+        }
+        if (threshold != null && (threshold < 0 || threshold > 1)) {
+            throw new RuntimeException("Threshold must be between 0 and 1");
+        }
+        return fuzzySearchService.search(keyword, threshold);
+    }
+
+    /**
+     * Search results as summaries with highlighted content snippets, so clients never
+     * download full paper bodies to show where the keyword matched
+     */
+    @Transactional(readOnly = true)
+    public List<PaperSearchResult> searchPapersWithSnippets(String keyword, boolean fuzzy, Double threshold) {
+        List<Paper> papers = fuzzy ? fuzzySearchPapers(keyword, threshold) : searchPapers(keyword);
+        if (papers.isEmpty()) return List.of();
+
+        // Tags and authors for all hits in two queries instead of lazy loads per paper
+        List<Long> ids = papers.stream().map(Paper::getId).toList();
+        Map<Long, List<String>> tagsById = new HashMap<>();
+        for (Object[] row : paperRepository.findPaperTagNamesByIds(ids)) {
+            tagsById.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        Map<Long, String> authorById = new HashMap<>();
+        for (Object[] row : paperRepository.findAuthorUsernamesByIds(ids)) {
+            authorById.put((Long) row[0], (String) row[1]);
+        }
+
+        List<PaperSearchResult> results = new ArrayList<>(papers.size());
+        for (Paper paper : papers) {
+            results.add(new PaperSearchResult(
+                    paper.getId(),
+                    paper.getTitle(),
+                    paper.getAbstractText(),
+                    authorById.get(paper.getId()),
+                    paper.getPublicationDate(),
+                    tagsById.getOrDefault(paper.getId(), new ArrayList<>()),
+                    snippetHighlighter.highlight(paper.getId(), paper.getUpdatedAt(), paper.getContent(), keyword)));
+        }
+        return results;
+    }
+
+    @Transactional(readOnly = true)
     public List<Paper> getPublishedPapers() {
         logger.debug("Retrieving all published papers");
         List<Paper> papers = paperRepository.findPublishedPapersOrderByDate();
@@ -86,6 +178,7 @@ public class PaperService {
         return papers;
     }
 
+    @Transactional(readOnly = true)
     public List<Paper> getUnpublishedPapers() {
         logger.debug("Retrieving all unpublished papers");
         List<Paper> papers = paperRepository.findUnpublishedPapers();
@@ -93,6 +186,7 @@ public class PaperService {
         return papers;
     }
 
+    @Transactional(readOnly = true)
     public List<Paper> getPapersByAuthor(String authorUsername) {
         logger.debug("Retrieving papers by author: {}", authorUsername);
         
@@ -107,6 +201,7 @@ public class PaperService {
         return papers;
     }
 
+    @Transactional
     public Paper publishPaper(Long paperId, String committeeUsername) {
         logger.info("Publishing paper ID: {} by committee member: {}", paperId, committeeUsername);
         
@@ -122,18 +217,41 @@ public class PaperService {
             throw new RuntimeException("Committee member not found");
         }
 
-        Paper paper = paperOptional.get();
-        User committee = committeeOptional.get();
+        return markPublished(paperOptional.get(), committeeOptional.get(), committeeUsername);
+    }
+
+    /**
+     * Publish for an already authorized session; the committee member is referenced by id
+     * without being loaded
+     */
+    @Transactional
+    public Paper publishPaper(Long paperId, AuthenticatedPrincipal committee) {
+        logger.info("Publishing paper ID: {} by committee member: {}", paperId, committee.username());
+
+        Optional<Paper> paperOptional = paperRepository.findById(paperId);
+        if (paperOptional.isEmpty()) {
+            logger.error("Paper not found with ID: {}", paperId);
+            throw new RuntimeException("Paper not found");
+        }
+
+        return markPublished(paperOptional.get(), userRepository.getReferenceById(committee.userId()),
+                committee.username());
+    }
 
+    private Paper markPublished(Paper paper, User committee, String committeeUsername) {
         paper.setPublishedByCommittee(committee);
         paper.setPublicationDate(LocalDateTime.now());
 
         Paper publishedPaper = paperRepository.save(paper);
+        String authorUsername = publishedPaper.getAuthor() != null ? publishedPaper.getAuthor().getUsername() : null;
+        outboxService.append(OutboxEventType.PAPER_PUBLISHED, publishedPaper.getId(),
+                paperEventPayload(publishedPaper.getTitle(), authorUsername));
         logger.info("Paper published successfully - ID: {}, title: '{}', published by: {}", 
                    publishedPaper.getId(), publishedPaper.getTitle(), committeeUsername);
         return publishedPaper;
     }
 
+    @Transactional(readOnly = true)
     public List<Paper> getPapersPublishedByCommittee(String committeeUsername) {
         Optional<User> userOptional = userRepository.findByUsername(committeeUsername);
         if (userOptional.isEmpty()) {
@@ -142,11 +260,53 @@ public class PaperService {
         return paperRepository.findByPublishedByCommittee(userOptional.get());
     }
 
+    @Transactional(readOnly = true)
     public Optional<Paper> getPaperById(Long id) {
         return paperRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Paper> getAllPapers() {
         return paperRepository.findAll();
     }
+
+    /**
+     * Write every paper as CSV. Runs on the export pool so a long export cannot
+     * take connections away from logins and writes.
+     */
+    @UseWorkload(Workload.EXPORT)
+    @Transactional(readOnly = true)
+    public long exportPapersCsv(Writer writer) throws IOException {
+        logger.info("Exporting papers as CSV");
+        writer.write("id,title,author,publication_date,created_at\n");
+        long count = 0;
+        try (Stream<Object[]> rows = paperRepository.streamExportRows()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                writer.write(csvValue(row[0]) + "," + csvValue(row[1]) + "," + csvValue(row[2]) + ","
+                        + csvValue(row[3]) + "," + csvValue(row[4]) + "\n");
+                count++;
+            }
+        }
+        writer.flush();
+        logger.info("Exported {} papers", count);
+        return count;
+    }
+
+    private static Map<String, Object> paperEventPayload(String title, String authorUsername) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("title", title);
+        payload.put("author", authorUsername);
+        return payload;
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.RoleName;
+
+/**
+ * What an authenticated caller may do, as bits so a principal carries all of its
+ * permissions in one int
+ */
+public enum Permission {
+    READ_PAPERS,
+    CREATE_PAPER,
+    PUBLISH_PAPER,
+    // Operational endpoints such as the slow-query log; the repo has no admin role
+    VIEW_DIAGNOSTICS;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int forRole(RoleName role) {
+        int bits = READ_PAPERS.bit();
+        if (role == RoleName.AUTHOR) {
+            bits |= CREATE_PAPER.bit();
+        } else if (role == RoleName.COMMITTEE) {
+            bits |= PUBLISH_PAPER.bit() | VIEW_DIAGNOSTICS.bit();
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.RoleName;
+import com.example.auth.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Sessions issued at login: an opaque bearer token mapped to the caller's user id, role and
+ * permission bits, so authorizing a request needs no database access until the next login.
+ *
+ * Bounded to max-sessions (least recently used dropped first). A session expires after
+ * idle-timeout-minutes without use. Logout revokes one token. A change to the user row (e.g. a
+ * new role) revokes all of that user's tokens, so stale permissions are never served.
+ */
+@Service
+public class PrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    @Value("${app.session.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+
+    @Value("${app.session.max-sessions:10000}")
+    private int maxSessions;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private static final class Session {
+        final AuthenticatedPrincipal principal;
+        long lastAccess;
+
+        Session(AuthenticatedPrincipal principal, long lastAccess) {
+            this.principal = principal;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    // Access-ordered, so the eldest entry is the least recently used session
+    private final LinkedHashMap<String, Session> sessions = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+            if (size() > maxSessions) {
+                unindex(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // user id -> that user's tokens, for revoking on a change to the user
+    private final Map<Long, Set<String>> tokensByUser = new HashMap<>();
+
+    public synchronized String createSession(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RoleName role = user.getRole() != null ? user.getRole().getName() : null;
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(user.getId(), user.getUsername(), role,
+                role != null ? Permission.forRole(role) : 0);
+        sessions.put(token, new Session(principal, System.currentTimeMillis()));
+        tokensByUser.computeIfAbsent(user.getId(), id -> new HashSet<>()).add(token);
+        return token;
+    }
+
+    /**
+     * @param authorization an "Authorization: Bearer ..." header value, possibly null
+     * @return the caller, if the token names a live session
+     */
+    public synchronized Optional<AuthenticatedPrincipal> resolve(String authorization) {
+        String token = bearerToken(authorization);
+        if (token == null) return Optional.empty();
+        Session session = sessions.get(token);
+        if (session == null) return Optional.empty();
+
+        long now = System.currentTimeMillis();
+        if (now - session.lastAccess > idleTimeoutMillis()) {
+            sessions.remove(token);
+            unindex(token, session);
+            return Optional.empty();
+        }
+        session.lastAccess = now;
+        return Optional.of(session.principal);
+    }
+
+    public synchronized boolean revoke(String authorization) {
+        String token = bearerToken(authorization);
+        if (token == null) return false;
+        Session session = sessions.remove(token);
+        if (session == null) return false;
+        unindex(token, session);
+        return true;
+    }
+
+    public synchronized void revokeUser(Long userId) {
+        Set<String> tokens = tokensByUser.remove(userId);
+        if (tokens == null) return;
+        for (String token : tokens) {
+            sessions.remove(token);
+        }
+        logger.info("Revoked {} session(s) of user ID: {}", tokens.size(), userId);
+    }
+
+    public static boolean hasBearerToken(String authorization) {
+        return bearerToken(authorization) != null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.session.sweep-interval-ms:60000}")
+    public synchronized void removeIdleSessions() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis();
+        int removed = 0;
+        // Access order puts the idlest sessions first
+        for (Iterator<Map.Entry<String, Session>> it = sessions.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Session> entry = it.next();
+            if (entry.getValue().lastAccess > cutoff) break;
+            it.remove();
+            unindex(entry.getKey(), entry.getValue());
+            removed++;
+        }
+        if (removed > 0) {
+            logger.debug("Removed {} idle session(s), {} active", removed, sessions.size());
+        }
+    }
+
+    private void unindex(String token, Session session) {
+        Set<String> tokens = tokensByUser.get(session.principal.userId());
+        if (tokens != null) {
+            tokens.remove(token);
+            if (tokens.isEmpty()) tokensByUser.remove(session.principal.userId());
+        }
+    }
+
+    private long idleTimeoutMillis() {
+        return idleTimeoutMinutes * 60_000;
+    }
+
+    private static String bearerToken(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) return null;
+        String token = authorization.substring(7).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
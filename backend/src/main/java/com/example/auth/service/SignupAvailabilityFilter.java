@@ -0,0 +1,165 @@
+package com.example.auth.service;
+
+import com.example.auth.config.Workload;
+import com.example.auth.config.WorkloadContext;
+import com.example.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filters of taken usernames and emails.
+ *
+ * A "not taken" answer is definite and needs no database access; "maybe taken" must be
+ * confirmed with a query. The filters are built at startup and kept current by
+ * UserIdentityListener. Until they are built every answer is "maybe". The users table's
+ * unique constraints remain the final guard against concurrent signups.
+ *
+ * Bloom filters cannot remove entries, so renamed or deleted users only cost an extra query
+ * until the next rebuild, which also happens once more users exist than the filters were sized for.
+ *
+ * The filters are advisory and only answer signup availability; they miss users created by
+ * other instances or by SQL, and the unique constraints catch those. Login always queries. A
+ * rebuild still scans the primary, never a replica that may lag, and a user added inside a
+ * transaction is added again after commit, so a row committed after the scan's snapshot was
+ * taken is added while the new filters are still being built or are already current.
+ */
+@Service
+public class SignupAvailabilityFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SignupAvailabilityFilter.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.signup.bloom.expected-users:100000}")
+    private long expectedUsers;
+
+    @Value("${app.signup.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private record Filters(BloomFilter usernames, BloomFilter emails, long capacity) {
+        void add(String username, String email) {
+            if (username != null) usernames.add(username);
+            if (email != null) emails.add(email);
+        }
+    }
+
+    private volatile Filters current;
+    // Receives adds while a rebuild is scanning the table, so none are lost
+    private volatile Filters building;
+    private final AtomicLong userCount = new AtomicLong();
+    // Held across the table scan, see PaperIndex.writeLock
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild(expectedUsers);
+    }
+
+    /**
+     * @return false only if no user has this username
+     */
+    public boolean mightHaveUsername(String username) {
+        Filters filters = current;
+        return filters == null || filters.usernames().mightContain(username);
+    }
+
+    /**
+     * @return false only if no user has this email
+     */
+    public boolean mightHaveEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails().mightContain(email);
+    }
+
+    public void userCreated(String username, String email) {
+        add(username, email);
+        userCount.incrementAndGet();
+    }
+
+    public void add(String username, String email) {
+        addNow(username, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(username, email);
+                }
+            });
+        }
+    }
+
+    // Building first: a rebuild makes the new filters current before it clears building, so
+    // whichever filters are read here last, one of the two is never older than the scan
+    private void addNow(String username, String email) {
+        Filters next = building;
+        if (next != null) next.add(username, email);
+        Filters filters = current;
+        if (filters != null) filters.add(username, email);
+    }
+
+    /**
+     * Resize once the filters hold more users than they were sized for, which would push the
+     * false-positive rate (and so the share of checks reaching the database) past its target
+     */
+    @Scheduled(fixedDelayString = "${app.signup.bloom.resize-check-interval-ms:60000}")
+    public void resizeIfFull() {
+        Filters filters = current;
+        if (filters != null && userCount.get() > filters.capacity()) {
+            rebuild(Math.max(filters.capacity() * 2, userCount.get() * 2));
+        }
+    }
+
+    private void rebuild(long capacity) {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            Filters next = new Filters(new BloomFilter(capacity, falsePositiveRate),
+                    new BloomFilter(capacity, falsePositiveRate), capacity);
+            building = next;
+            // On the primary: a replica's snapshot may miss users committed just before the scan
+            Workload previous = WorkloadContext.enter(Workload.OLTP);
+            try {
+                TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+                readOnly.setReadOnly(true);
+                Long count = readOnly.execute(status -> {
+                    long users = 0;
+                    try (Stream<Object[]> rows = userRepository.streamUsernamesAndEmails()) {
+                        for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                            next.add((String) row[0], (String) row[1]);
+                            users++;
+                        }
+                    }
+                    return users;
+                });
+                userCount.set(count != null ? count : 0);
+                current = next;
+                logger.info("Signup availability filter built for {} users (capacity {}, {} bits, {} hashes) in {} ms",
+                           userCount.get(), capacity, next.usernames().getBitCount(), next.usernames().getHashCount(),
+                           System.currentTimeMillis() - start);
+            } finally {
+                building = null;
+                WorkloadContext.restore(previous);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
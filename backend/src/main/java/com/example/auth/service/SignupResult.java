@@ -0,0 +1,9 @@
+package com.example.auth.service;
+
+public enum SignupResult {
+    CREATED,
+    USERNAME_TAKEN,
+    EMAIL_TAKEN,
+    INVALID_ROLE,
+    FAILED
+}
@@ -0,0 +1,124 @@
+package com.example.auth.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sliding-window counters per key: the estimated number of events in the last window is
+ * the current fixed window's count plus the previous window's count weighted by how much
+ * of it still overlaps. Two numbers per key, no timestamps kept.
+ *
+ * Keys are spread over lock stripes so concurrent callers rarely contend, and each stripe is
+ * an LRU map bounded to its share of maxKeys, so a flood of distinct keys (random usernames,
+ * spoofed addresses) cannot exhaust memory; it only evicts the least recently seen keys.
+ */
+public final class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final Stripe[] stripes;
+
+    private static final class Counter {
+        long windowStart;
+        int current;
+        int previous;
+    }
+
+    private static final class Stripe {
+        final Map<String, Counter> counters;
+
+        Stripe(int capacity) {
+            this.counters = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Counter> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int maxKeys, int stripeCount) {
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.stripes = new Stripe[stripeCount];
+        int perStripe = Math.max(1, maxKeys / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Count one event for the key if it fits in the window; the check and the count happen
+     * under one lock, so concurrent callers cannot both take the last slot
+     *
+     * @return 0 if the event was counted, otherwise how many milliseconds until it would fit
+     */
+    public long tryAcquire(String key, long now) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Counter counter = stripe.counters.computeIfAbsent(key, k -> new Counter());
+            long waitMillis = waitMillis(roll(counter, now), now);
+            if (waitMillis == 0) {
+                counter.current++;
+            }
+            return waitMillis;
+        }
+    }
+
+    /**
+     * Take back an event counted by tryAcquire at the given time
+     */
+    public void release(String key, long acquiredAt) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Counter counter = stripe.counters.get(key);
+            if (counter == null) return;
+            long windowStart = acquiredAt - Math.floorMod(acquiredAt, windowMillis);
+            if (counter.windowStart == windowStart && counter.current > 0) {
+                counter.current--;
+            } else if (counter.windowStart == windowStart + windowMillis && counter.previous > 0) {
+                counter.previous--;
+            }
+        }
+    }
+
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.counters.remove(key);
+        }
+    }
+
+    private Counter roll(Counter counter, long now) {
+        long windowStart = now - Math.floorMod(now, windowMillis);
+        if (counter.windowStart != windowStart) {
+            counter.previous = counter.windowStart == windowStart - windowMillis ? counter.current : 0;
+            counter.current = 0;
+            counter.windowStart = windowStart;
+        }
+        return counter;
+    }
+
+    /**
+     * Earliest wait after which previous * (1 - elapsed / window) + current + 1 <= limit
+     */
+    private long waitMillis(Counter counter, long now) {
+        long elapsed = now - counter.windowStart;
+        int room = limit - 1 - counter.current;
+        if (room >= 0) {
+            if (counter.previous <= room) return 0;
+            long needed = (long) Math.ceil(windowMillis * (1 - (double) room / counter.previous));
+            return Math.max(0, needed - elapsed);
+        }
+        // Not before the next window; then the current count becomes the weighted one
+        long untilNextWindow = windowMillis - elapsed;
+        long needed = (long) Math.ceil(windowMillis * (1 - (double) (limit - 1) / counter.current));
+        return untilNextWindow + Math.max(0, needed);
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.auth.service;
+
+import com.example.auth.config.ExecutedStatement;
+import com.example.auth.config.RepositoryCallTracker;
+import com.example.auth.config.StatementListener;
+import com.example.auth.config.Workload;
+import com.example.auth.config.WorkloadContext;
+import com.example.auth.dto.SlowQueryEntry;
+import com.example.auth.dto.SlowQueryLogResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * Slow-query log, off unless app.slow-query.enabled is set. Keeps the last app.slow-query.capacity
+ * statements slower than app.slow-query.threshold-ms in an in-memory ring: SQL, bind types (not
+ * values), rows, the repository method and the innermost application frames, plus the workload
+ * pool it was routed to. Only callers with Permission.VIEW_DIAGNOSTICS can read it.
+ *
+ * Optionally a fraction of slow SELECTs is re-run as EXPLAIN ANALYZE, one at a time on the task
+ * executor, on the export pool and in a read-only transaction that is rolled back, so the plan
+ * shows what the statement actually did under the same bind values. Plans print those values as
+ * literals, so sampling is off by default.
+ */
+@Service
+@ConditionalOnProperty(name = "app.slow-query.enabled", havingValue = "true")
+public class SlowQueryLog implements StatementListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final String APPLICATION_PACKAGE = "com.example.auth.";
+    private static final String CONFIG_PACKAGE = "com.example.auth.config.";
+    private static final Pattern READ_ONLY = Pattern.compile("^\\s*(select|with)\\b", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Value("${app.slow-query.stack-depth:8}")
+    private int stackDepth;
+
+    @Value("${app.slow-query.explain-sample-rate:0.0}")
+    private double explainSampleRate;
+
+    @Value("${app.slow-query.explain-timeout-seconds:30}")
+    private int explainTimeoutSeconds;
+
+    private final long thresholdMs;
+    private final long thresholdNanos;
+    private final String explainPrefix;
+
+    private final AtomicReferenceArray<CapturedStatement> ring;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean explaining = new AtomicBoolean();
+
+    // Statements run while sampling a plan are not captured
+    private final ThreadLocal<Boolean> sampling = ThreadLocal.withInitial(() -> false);
+
+    private static final class CapturedStatement {
+        final LocalDateTime capturedAt = LocalDateTime.now();
+        final ExecutedStatement statement;
+        final String repositoryMethod;
+        final Workload workload;
+        final String thread;
+        final List<String> stack;
+        volatile String plan;
+
+        CapturedStatement(ExecutedStatement statement, String repositoryMethod, Workload workload, String thread,
+                          List<String> stack) {
+            this.statement = statement;
+            this.repositoryMethod = repositoryMethod;
+            this.workload = workload;
+            this.thread = thread;
+            this.stack = stack;
+        }
+    }
+
+    public SlowQueryLog(@Value("${app.slow-query.threshold-ms:500}") long thresholdMs,
+                        @Value("${app.slow-query.capacity:200}") int capacity,
+                        @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.thresholdMs = thresholdMs;
+        this.thresholdNanos = thresholdMs * 1_000_000;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        if (datasourceUrl.startsWith("jdbc:postgresql:")) {
+            this.explainPrefix = "EXPLAIN (ANALYZE, BUFFERS) ";
+        } else if (datasourceUrl.startsWith("jdbc:h2:")) {
+            this.explainPrefix = "EXPLAIN ANALYZE ";
+        } else {
+            this.explainPrefix = null;
+        }
+    }
+
+    @Override
+    public void statementExecuted(ExecutedStatement statement) {
+        if (statement.getElapsedNanos() < thresholdNanos || sampling.get()) return;
+        statement.countRows();
+        CapturedStatement captured = new CapturedStatement(statement, RepositoryCallTracker.current(),
+                WorkloadContext.current(), Thread.currentThread().getName(), stack());
+        long position = sequence.getAndIncrement();
+        ring.set((int) (position % ring.length()), captured);
+
+        logger.warn("Slow statement ({} ms{}) from {}: {}", statement.getElapsedNanos() / 1_000_000,
+                   statement.isFailed() ? ", failed" : "",
+                   captured.repositoryMethod != null ? captured.repositoryMethod : captured.stack, statement.getSql());
+        if (shouldSample(statement)) {
+            try {
+                taskExecutor.execute(() -> samplePlan(captured));
+            } catch (RuntimeException e) {
+                explaining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Most recent captured statements, newest first
+     */
+    public SlowQueryLogResponse recent(int limit) {
+        long end = sequence.get();
+        long start = Math.max(0, end - ring.length());
+        List<SlowQueryEntry> entries = new ArrayList<>();
+        for (long position = end - 1; position >= start && entries.size() < limit; position--) {
+            CapturedStatement captured = ring.get((int) (position % ring.length()));
+            if (captured != null) {
+                ExecutedStatement statement = captured.statement;
+                entries.add(new SlowQueryEntry(captured.capturedAt, statement.getElapsedNanos() / 1_000_000.0,
+                        statement.getSql(), statement.getBindShape(), statement.getRows() < 0 ? null : statement.getRows(),
+                        statement.isFailed(), captured.repositoryMethod, captured.workload.name(), captured.thread,
+                        captured.stack, captured.plan));
+            }
+        }
+        return new SlowQueryLogResponse(thresholdMs, ring.length(), end, entries);
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+        sequence.set(0);
+    }
+
+    private boolean shouldSample(ExecutedStatement statement) {
+        return explainPrefix != null && explainSampleRate > 0 && !statement.isFailed()
+                && READ_ONLY.matcher(statement.getSql()).find()
+                && ThreadLocalRandom.current().nextDouble() < explainSampleRate
+                && explaining.compareAndSet(false, true);
+    }
+
+    private void samplePlan(CapturedStatement captured) {
+        Workload previous = WorkloadContext.enter(Workload.EXPORT);
+        sampling.set(true);
+        try (Connection connection = dataSource.getConnection()) {
+            // Read-only and rolled back: EXPLAIN ANALYZE executes the statement
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            try (PreparedStatement explain = connection.prepareStatement(explainPrefix + captured.statement.getSql())) {
+                explain.setQueryTimeout(explainTimeoutSeconds);
+                captured.statement.bindTo(explain);
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet rows = explain.executeQuery()) {
+                    while (rows.next()) {
+                        plan.add(rows.getString(1));
+                    }
+                }
+                captured.plan = plan.toString();
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Could not sample the plan of [{}]: {}", captured.statement.getSql(), e.getMessage());
+        } finally {
+            sampling.remove();
+            WorkloadContext.restore(previous);
+            explaining.set(false);
+        }
+    }
+
+    // Innermost application frames, skipping the JDBC wrappers and aspects in config and CGLIB proxies
+    private List<String> stack() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(CONFIG_PACKAGE)
+                        && !frame.getClassName().contains("$$")
+                        && !frame.getClassName().equals(SlowQueryLog.class.getName()))
+                .limit(stackDepth)
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .toList());
+    }
+}
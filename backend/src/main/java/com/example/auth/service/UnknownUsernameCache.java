@@ -0,0 +1,50 @@
+package com.example.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Usernames recently looked up at login and not found, kept for a short TTL so repeated
+ * attempts with the same unknown name skip the users table. Bounded to max-entries (oldest
+ * dropped first) and invalidated by UserIdentityListener as soon as a user with the name is saved.
+ * A login racing that user's signup can at worst see the name as missing for one TTL.
+ */
+@Service
+public class UnknownUsernameCache {
+
+    @Value("${app.login.unknown-username-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${app.login.unknown-username-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // username -> expiry (epoch millis), in insertion order
+    private final Map<String, Long> expiries = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public synchronized boolean isKnownMissing(String username) {
+        Long expiry = expiries.get(username);
+        if (expiry == null) return false;
+        if (expiry < System.currentTimeMillis()) {
+            expiries.remove(username);
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized void markMissing(String username) {
+        expiries.remove(username);
+        expiries.put(username, System.currentTimeMillis() + ttlSeconds * 1000);
+    }
+
+    public synchronized void invalidate(String username) {
+        expiries.remove(username);
+    }
+}
@@ -0,0 +1,696 @@
+-- Baseline: the schema Hibernate generated with ddl-auto=update from the mappings as they were
+-- before any migration existed, i.e. what a deployed database holds. Portable between PostgreSQL
+-- and H2. A database that already has these tables is baselined at this version
+-- (spring.flyway.baseline-on-migrate) instead of running it, so this file must not describe
+-- anything newer: later objects go in later migrations.
+
+create table academic_interests (
+    user_id bigint not null,
+    interest varchar(255)
+);
+
+create table academic_users (
+    graduation_year integer,
+    id bigint not null,
+    academic_level varchar(255),
+    department varchar(255),
+    institution varchar(255),
+    student_id varchar(255),
+    primary key (id)
+);
+
+create table admin_access_systems (
+    admin_id bigint not null,
+    system_name varchar(255)
+);
+
+create table admin_managed_departments (
+    admin_id bigint not null,
+    department_name varchar(255)
+);
+
+create table admin_owned_documents (
+    admin_id bigint not null,
+    document_id bigint
+);
+
+create table admin_pending_reviews (
+    admin_id bigint not null,
+    document_id bigint
+);
+
+create table admin_published_docs (
+    admin_id bigint not null,
+    document_id bigint
+);
+
+create table admin_reading_history (
+    admin_id bigint not null,
+    document_id bigint not null,
+    read_date varchar(255),
+    primary key (admin_id, document_id)
+);
+
+create table admin_responsibilities (
+    admin_id bigint not null,
+    responsibility varchar(255)
+);
+
+create table administrators (
+    clearance_level integer,
+    hire_date timestamp(6),
+    id bigint not null,
+    department varchar(255),
+    employee_id varchar(255) unique,
+    position varchar(255),
+    primary key (id)
+);
+
+create table author_awards (
+    author_id bigint not null,
+    award_name varchar(255)
+);
+
+create table author_publications (
+    author_id bigint not null,
+    publication_title varchar(255)
+);
+
+create table base_persons (
+    created_at timestamp(6),
+    date_of_birth timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    person_type varchar(31) not null,
+    email varchar(255) unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    phone_number varchar(255),
+    primary key (id)
+);
+
+create table document_keywords (
+    document_id bigint not null,
+    keyword varchar(255)
+);
+
+create table documents (
+    is_published boolean,
+    view_count integer,
+    author_id bigint,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    published_at timestamp(6),
+    updated_at timestamp(6),
+    document_type varchar(31) not null,
+    author_name varchar(255),
+    content TEXT,
+    title varchar(255),
+    primary key (id)
+);
+
+create table enhanced_users (
+    is_active boolean,
+    id bigint not null,
+    last_login timestamp(6),
+    biography varchar(255),
+    password varchar(255),
+    username varchar(255) unique,
+    primary key (id)
+);
+
+create table hibernate_sequences (
+    next_val bigint,
+    sequence_name varchar(255) not null,
+    primary key (sequence_name)
+);
+
+create table joined_admin_access_logs (
+    admin_id bigint not null,
+    access_log varchar(255)
+);
+
+create table joined_admin_managed_areas (
+    admin_id bigint not null,
+    managed_area varchar(255)
+);
+
+create table joined_admin_permissions (
+    admin_id bigint not null,
+    permission varchar(255)
+);
+
+create table joined_admins (
+    can_approve_papers boolean,
+    can_manage_content boolean,
+    can_manage_users boolean,
+    can_view_reports boolean,
+    is_super_admin boolean,
+    login_count integer,
+    papers_reviewed integer,
+    last_login timestamp(6),
+    last_password_change timestamp(6),
+    person_id bigint not null,
+    admin_id varchar(255) unique,
+    admin_level varchar(255),
+    department varchar(255),
+    primary key (person_id)
+);
+
+create table joined_author_collaborators (
+    author_id bigint not null,
+    collaborator_name varchar(255)
+);
+
+create table joined_author_publications (
+    author_id bigint not null,
+    publication_title varchar(255)
+);
+
+create table joined_author_research_areas (
+    author_id bigint not null,
+    research_area varchar(255)
+);
+
+create table joined_authors (
+    first_publication_date date,
+    h_index integer,
+    is_peer_reviewer boolean,
+    total_citations integer,
+    total_reviews integer,
+    person_id bigint not null,
+    affiliation varchar(255),
+    author_id varchar(255) unique,
+    research_field varchar(255),
+    primary key (person_id)
+);
+
+create table joined_employee_skills (
+    employee_id bigint not null,
+    skill varchar(255)
+);
+
+create table joined_professor_courses (
+    professor_id bigint not null,
+    course_code varchar(255)
+);
+
+create table joined_professor_publications (
+    professor_id bigint not null,
+    publication varchar(255)
+);
+
+create table joined_student_courses (
+    student_id bigint not null,
+    course_code varchar(255)
+);
+
+create table joined_table_employees (
+    salary float(53),
+    hire_date timestamp(6),
+    id bigint not null,
+    department varchar(255),
+    employee_id varchar(255) unique,
+    position varchar(255),
+    primary key (id)
+);
+
+create table joined_table_persons (
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    email varchar(255) unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    phone_number varchar(255),
+    primary key (id)
+);
+
+create table joined_table_professors (
+    is_tenured boolean,
+    id bigint not null,
+    office_number varchar(255),
+    rank varchar(255),
+    research_area varchar(255),
+    primary key (id)
+);
+
+create table joined_table_students (
+    gpa float(53),
+    year_of_study integer,
+    id bigint not null,
+    major varchar(255),
+    student_id varchar(255) unique,
+    primary key (id)
+);
+
+create table paper_coauthors (
+    paper_id bigint not null,
+    coauthor_name varchar(255)
+);
+
+create table paper_references (
+    paper_id bigint not null,
+    reference varchar(255)
+);
+
+create table paper_tags (
+    paper_id bigint not null,
+    tag_id bigint not null,
+    primary key (paper_id, tag_id)
+);
+
+create table papers (
+    author_id bigint,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    publication_date timestamp(6),
+    published_by_committee_id bigint,
+    updated_at timestamp(6),
+    abstract_text TEXT,
+    content TEXT,
+    title varchar(255),
+    primary key (id)
+);
+
+create table policy_approvers (
+    policy_id bigint not null,
+    approver_name varchar(255)
+);
+
+create table policy_documents (
+    review_frequency_months integer,
+    effective_date timestamp(6),
+    expiration_date timestamp(6),
+    id bigint not null,
+    compliance_level varchar(255),
+    department varchar(255),
+    policy_number varchar(255),
+    summary varchar(255),
+    version_number varchar(255),
+    primary key (id)
+);
+
+create table policy_stakeholders (
+    policy_id bigint not null,
+    stakeholder varchar(255)
+);
+
+create table professor_courses (
+    professor_id bigint not null,
+    course_code varchar(255)
+);
+
+create table professor_owned_documents (
+    document_id bigint,
+    professor_id bigint not null
+);
+
+create table professor_publications (
+    professor_id bigint not null,
+    publication_title varchar(255)
+);
+
+create table professor_reading_history (
+    document_id bigint not null,
+    professor_id bigint not null,
+    read_date varchar(255),
+    primary key (professor_id, document_id)
+);
+
+create table professors (
+    is_tenured boolean,
+    salary float(53),
+    hire_date timestamp(6),
+    id bigint not null,
+    department varchar(255),
+    employee_id varchar(255) unique,
+    rank varchar(255),
+    research_area varchar(255),
+    primary key (id)
+);
+
+create table readable_students (
+    read_count integer,
+    id bigint not null,
+    primary key (id)
+);
+
+create table research_authors (
+    h_index integer,
+    is_peer_reviewer boolean,
+    publications_count integer,
+    id bigint not null,
+    author_id varchar(255) unique,
+    specialization varchar(255),
+    primary key (id)
+);
+
+create table research_papers (
+    citation_count integer,
+    peer_reviewed boolean,
+    id bigint not null,
+    abstract_text varchar(255),
+    doi varchar(255),
+    journal varchar(255),
+    research_field varchar(255),
+    primary key (id)
+);
+
+create table roles (
+    id bigint generated by default as identity,
+    name varchar(20) check (name in ('STUDENT','AUTHOR','COMMITTEE')),
+    primary key (id)
+);
+
+create table single_table_admin_managed_areas (
+    person_id bigint not null,
+    managed_area varchar(255)
+);
+
+create table single_table_admin_permissions (
+    person_id bigint not null,
+    permission varchar(255)
+);
+
+create table single_table_author_publications (
+    person_id bigint not null,
+    publication_title varchar(255)
+);
+
+create table single_table_author_research_areas (
+    person_id bigint not null,
+    research_area varchar(255)
+);
+
+create table single_table_employee_skills (
+    employee_id bigint not null,
+    skill varchar(255)
+);
+
+create table single_table_persons (
+    can_manage_content boolean,
+    can_manage_users boolean,
+    can_view_reports boolean,
+    first_publication_date date,
+    gpa float(53),
+    h_index integer,
+    is_super_admin boolean,
+    is_tenured boolean,
+    login_count integer,
+    salary float(53),
+    total_citations integer,
+    created_at timestamp(6),
+    hire_date timestamp(6),
+    id bigint generated by default as identity,
+    last_login timestamp(6),
+    person_type varchar(31) not null,
+    admin_id varchar(255),
+    admin_level varchar(255),
+    affiliation varchar(255),
+    author_id varchar(255),
+    department varchar(255),
+    email varchar(255) unique,
+    employee_id varchar(255),
+    first_name varchar(255),
+    last_name varchar(255),
+    major varchar(255),
+    phone_number varchar(255),
+    rank varchar(255),
+    research_area varchar(255),
+    research_field varchar(255),
+    student_id varchar(255),
+    primary key (id)
+);
+
+create table single_table_professor_publications (
+    professor_id bigint not null,
+    publication varchar(255)
+);
+
+create table single_table_student_courses (
+    student_id bigint not null,
+    course_code varchar(255)
+);
+
+create table student_courses (
+    student_id bigint not null,
+    course_code varchar(255)
+);
+
+create table student_reading_history (
+    document_id bigint not null,
+    student_id bigint not null,
+    read_date varchar(255),
+    primary key (student_id, document_id)
+);
+
+create table students (
+    gpa float(53),
+    year_of_study integer,
+    enrollment_date timestamp(6),
+    id bigint not null,
+    advisor varchar(255),
+    major varchar(255),
+    student_id varchar(255) unique,
+    primary key (id)
+);
+
+create table super_administrators (
+    created_document_count integer,
+    published_document_count integer,
+    read_count integer,
+    reviewed_document_count integer,
+    id bigint not null,
+    primary key (id)
+);
+
+create table table_per_class_admin_access_logs (
+    admin_id bigint not null,
+    access_log varchar(255)
+);
+
+create table table_per_class_admin_ip_whitelist (
+    admin_id bigint not null,
+    ip_address varchar(255)
+);
+
+create table table_per_class_admin_managed_areas (
+    admin_id bigint not null,
+    managed_area varchar(255)
+);
+
+create table table_per_class_admin_permissions (
+    admin_id bigint not null,
+    permission varchar(255)
+);
+
+create table table_per_class_admins (
+    account_locked boolean,
+    can_approve_papers boolean,
+    can_manage_content boolean,
+    can_manage_users boolean,
+    can_view_reports boolean,
+    failed_login_attempts integer,
+    is_super_admin boolean,
+    login_count integer,
+    papers_reviewed integer,
+    session_timeout_minutes integer,
+    two_factor_enabled boolean,
+    created_at timestamp(6),
+    id bigint not null,
+    last_login timestamp(6),
+    last_password_change timestamp(6),
+    admin_id varchar(255) unique,
+    admin_level varchar(255),
+    department varchar(255),
+    email varchar(255) unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    phone_number varchar(255),
+    primary key (id)
+);
+
+create table table_per_class_author_collaborators (
+    author_id bigint not null,
+    collaborator_name varchar(255)
+);
+
+create table table_per_class_author_journals (
+    author_id bigint not null,
+    journal_name varchar(255)
+);
+
+create table table_per_class_author_publications (
+    author_id bigint not null,
+    publication_title varchar(255)
+);
+
+create table table_per_class_author_research_areas (
+    author_id bigint not null,
+    research_area varchar(255)
+);
+
+create table table_per_class_authors (
+    first_publication_date date,
+    h_index integer,
+    impact_factor float(53),
+    is_peer_reviewer boolean,
+    total_citations integer,
+    total_conferences integer,
+    total_reviews integer,
+    created_at timestamp(6),
+    id bigint not null,
+    affiliation varchar(255),
+    author_id varchar(255) unique,
+    email varchar(255) unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    phone_number varchar(255),
+    research_field varchar(255),
+    primary key (id)
+);
+
+create table table_per_class_employee_certifications (
+    employee_id bigint not null,
+    certification varchar(255)
+);
+
+create table table_per_class_employee_skills (
+    employee_id bigint not null,
+    skill varchar(255)
+);
+
+create table table_per_class_employees (
+    hire_date date,
+    is_manager boolean,
+    salary numeric(10,2),
+    created_at timestamp(6),
+    id bigint not null,
+    department varchar(255),
+    email varchar(255) unique,
+    employee_id varchar(255) unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    manager_id varchar(255),
+    phone_number varchar(255),
+    position varchar(255),
+    primary key (id)
+);
+
+create table table_per_class_student_courses (
+    student_id bigint not null,
+    course_code varchar(255)
+);
+
+create table table_per_class_students (
+    credits_completed integer,
+    gpa float(53),
+    year_of_study integer,
+    created_at timestamp(6),
+    id bigint not null,
+    email varchar(255) unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    major varchar(255),
+    phone_number varchar(255),
+    student_id varchar(255) unique,
+    primary key (id)
+);
+
+create table tags (
+    id bigint generated by default as identity,
+    description varchar(255),
+    name varchar(255) unique,
+    primary key (id)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    role_id bigint,
+    email varchar(255),
+    password varchar(255),
+    username varchar(255),
+    primary key (id),
+    unique (username),
+    unique (email)
+);
+
+create table writable_professors (
+    created_document_count integer,
+    read_count integer,
+    id bigint not null,
+    primary key (id)
+);
+
+insert into hibernate_sequences(sequence_name, next_val) values ('default',0);
+
+alter table academic_interests add constraint FK8m3neius04x8jq35bprtlhsdp foreign key (user_id) references academic_users;
+alter table academic_users add constraint FKa9ok7yxje3d0ayg955okv01dk foreign key (id) references enhanced_users;
+alter table admin_access_systems add constraint FK90p39f6am2ic0g8sbe6mc8qu foreign key (admin_id) references administrators;
+alter table admin_managed_departments add constraint FKnourcxq5c3af412qbr1ckd13u foreign key (admin_id) references administrators;
+alter table admin_owned_documents add constraint FKpc4x4c1ob9ap4khr677hufcyv foreign key (admin_id) references super_administrators;
+alter table admin_pending_reviews add constraint FKfpo8awbly7129fwk5jknknynv foreign key (admin_id) references super_administrators;
+alter table admin_published_docs add constraint FKc0mhoua7svx42t5ujx9uhj060 foreign key (admin_id) references super_administrators;
+alter table admin_reading_history add constraint FKpmpc3xgv7bds2a0tdn15kwxrp foreign key (admin_id) references super_administrators;
+alter table admin_responsibilities add constraint FK6pp9ae77mumlvevgtqrucrnbf foreign key (admin_id) references administrators;
+alter table administrators add constraint FK5091kah6x6mm3bcyr3q410kqa foreign key (id) references base_persons;
+alter table author_awards add constraint FKooyo1a4ejdt1rxcneb9n105c7 foreign key (author_id) references research_authors;
+alter table author_publications add constraint FK3u6awm2q9qnklc4fvt4lioflj foreign key (author_id) references research_authors;
+alter table document_keywords add constraint FKcxg06vu0b6mkepui8enx6a7qj foreign key (document_id) references documents;
+alter table enhanced_users add constraint FKrekydcs7prs43ucu52vcqb143 foreign key (id) references base_persons;
+alter table joined_admin_access_logs add constraint FKkxrxdena9qc357nrb728fmgmu foreign key (admin_id) references joined_admins;
+alter table joined_admin_managed_areas add constraint FKepb3qqm9ql4yyvwdmkq3ot23a foreign key (admin_id) references joined_admins;
+alter table joined_admin_permissions add constraint FK3ha9lj4so835u6sw74ru3e2wm foreign key (admin_id) references joined_admins;
+alter table joined_admins add constraint FKajr7j7qws2h291c6mu6onx7kr foreign key (person_id) references joined_table_persons;
+alter table joined_author_collaborators add constraint FKtxcioc263ej4hbxmfk3qvxnh foreign key (author_id) references joined_authors;
+alter table joined_author_publications add constraint FKn4gx7mku70aq2mpkmem4qgjwr foreign key (author_id) references joined_authors;
+alter table joined_author_research_areas add constraint FK5xhackadwanh25u41r2xk466d foreign key (author_id) references joined_authors;
+alter table joined_authors add constraint FK1pem9v7d0f01usxg9870meajq foreign key (person_id) references joined_table_persons;
+alter table joined_employee_skills add constraint FK4hsomfar9gc87q2jghr8q61m7 foreign key (employee_id) references joined_table_employees;
+alter table joined_professor_courses add constraint FK1re8gltt2w0g7y2v50d742coe foreign key (professor_id) references joined_table_professors;
+alter table joined_professor_publications add constraint FKq0ta2cngq9wq8g9a3f9s6j71b foreign key (professor_id) references joined_table_professors;
+alter table joined_student_courses add constraint FK1jbvago8qaylenk4gb3t3byws foreign key (student_id) references joined_table_students;
+alter table joined_table_employees add constraint FK54ja09x1vc0lh3hnjhkoob7xg foreign key (id) references joined_table_persons;
+alter table joined_table_professors add constraint FK3flb3v1etiqcohlcyihro8dfk foreign key (id) references joined_table_employees;
+alter table joined_table_students add constraint FKb3mrjhqrfst8adgt6gb9d6qfj foreign key (id) references joined_table_persons;
+alter table paper_coauthors add constraint FKh61k2fu7k7btm0xro43pnl97a foreign key (paper_id) references research_papers;
+alter table paper_references add constraint FK8pji8v8lkdiinqvnem87xywb foreign key (paper_id) references research_papers;
+alter table paper_tags add constraint FK9e1ckj7tcxk2lnutwtik79rct foreign key (tag_id) references tags;
+alter table paper_tags add constraint FKyfw2ryr6v0871g165niw2ogi foreign key (paper_id) references papers;
+alter table papers add constraint FKtemw0o2qqc0ixmrrds45jsumr foreign key (author_id) references users;
+alter table papers add constraint FKby1otenddmemrrq0d3hchdt6w foreign key (published_by_committee_id) references users;
+alter table policy_approvers add constraint FKsu4ttxspaeur7i4xhq4ie0yj7 foreign key (policy_id) references policy_documents;
+alter table policy_documents add constraint FK3a99iu5hof1ef30edj54tqd7v foreign key (id) references documents;
+alter table policy_stakeholders add constraint FKrwyxh98tu9gry96jxh4jdbwxs foreign key (policy_id) references policy_documents;
+alter table professor_courses add constraint FKcqvxgfc155esutlvs9s09yavg foreign key (professor_id) references professors;
+alter table professor_owned_documents add constraint FKkuurmdeegnswqr7n2qjuaoqff foreign key (professor_id) references writable_professors;
+alter table professor_publications add constraint FKgxbkfvwn5ox132wrwui8rjlll foreign key (professor_id) references professors;
+alter table professor_reading_history add constraint FK5i85hppt6pc1m3je6m3iu85py foreign key (professor_id) references writable_professors;
+alter table professors add constraint FKs3l6qejdyysa7xfpvi1ks9pub foreign key (id) references base_persons;
+alter table readable_students add constraint FKs77j7xm3v1vt6c58ygiilgy6s foreign key (id) references students;
+alter table research_authors add constraint FKlsv3ny0c9a3v2f6buxtbdus7r foreign key (id) references academic_users;
+alter table research_papers add constraint FKt7inan2h6bknjmnlxjmgbv4j6 foreign key (id) references documents;
+alter table single_table_admin_managed_areas add constraint FKdwwqpw43l1s7wgw5c37ssvsqh foreign key (person_id) references single_table_persons;
+alter table single_table_admin_permissions add constraint FK1w6djo2chjdowgk2j1y6fgqwp foreign key (person_id) references single_table_persons;
+alter table single_table_author_publications add constraint FKt4df7cp88eq9gx8f17mw0cat1 foreign key (person_id) references single_table_persons;
+alter table single_table_author_research_areas add constraint FKeel3u91epdlt0dgv7cfucahur foreign key (person_id) references single_table_persons;
+alter table single_table_employee_skills add constraint FKaolo01m3x2sc0rwi2ow0i2d06 foreign key (employee_id) references single_table_persons;
+alter table single_table_professor_publications add constraint FKc93569cekvxk7qn99ye5hyy9h foreign key (professor_id) references single_table_persons;
+alter table single_table_student_courses add constraint FKbtgikpf9j2mdox7infp43v0h7 foreign key (student_id) references single_table_persons;
+alter table student_courses add constraint FKwj1l0mta35u161acdl2tupoo foreign key (student_id) references students;
+alter table student_reading_history add constraint FKhcw5iqmqqtgmiqyqovowojds2 foreign key (student_id) references readable_students;
+alter table students add constraint FK9kyhj8mkq338mngtn23wfc9bf foreign key (id) references base_persons;
+alter table super_administrators add constraint FKr11dgy7xp0riuw82gq294u23e foreign key (id) references administrators;
+alter table table_per_class_admin_access_logs add constraint FK77bvpng9a5l0slme1ax2rljnq foreign key (admin_id) references table_per_class_admins;
+alter table table_per_class_admin_ip_whitelist add constraint FKhc30lnww36dnjg0udmhk20vwa foreign key (admin_id) references table_per_class_admins;
+alter table table_per_class_admin_managed_areas add constraint FK2sddlw3q9xs196ex9g1uhi0y6 foreign key (admin_id) references table_per_class_admins;
+alter table table_per_class_admin_permissions add constraint FKnawue4gsr2wi6nvjq7yhqpplc foreign key (admin_id) references table_per_class_admins;
+alter table table_per_class_author_collaborators add constraint FKkhjs1oj7pdy265hllpjrdt2x2 foreign key (author_id) references table_per_class_authors;
+alter table table_per_class_author_journals add constraint FKp89n4g1rtig8d2n5024r2nade foreign key (author_id) references table_per_class_authors;
+alter table table_per_class_author_publications add constraint FKsrje6jtwf0tsfh12kj2w4kcit foreign key (author_id) references table_per_class_authors;
+alter table table_per_class_author_research_areas add constraint FKm8cs082032wjnfj9m65g1vd4s foreign key (author_id) references table_per_class_authors;
+alter table table_per_class_employee_certifications add constraint FKl85ruprubofwf7o0mmxe3bl06 foreign key (employee_id) references table_per_class_employees;
+alter table table_per_class_employee_skills add constraint FKr1im1i76m8ed787oe59jc3tdh foreign key (employee_id) references table_per_class_employees;
+alter table table_per_class_student_courses add constraint FKhciljg3kevyh5jc4vpnmc2u3s foreign key (student_id) references table_per_class_students;
+alter table users add constraint FKp56c1712k691lhsyewcssf40f foreign key (role_id) references roles;
+alter table writable_professors add constraint FKjf3xskx31djgoyt59ein6cxda foreign key (id) references professors;
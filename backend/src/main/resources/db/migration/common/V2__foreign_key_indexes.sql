@@ -0,0 +1,61 @@
+-- Indexes Hibernate never created. PostgreSQL does not index foreign keys by itself, so every
+-- join from a parent to these tables, and every parent delete checking for children, scanned them.
+-- "if not exists" because some may have been added by hand on existing databases.
+
+-- Papers: the author's and committee member's dashboards, and the published/draft split
+create index if not exists idx_papers_author_id on papers (author_id);
+create index if not exists idx_papers_published_by_committee_id on papers (published_by_committee_id);
+create index if not exists idx_papers_publication_date on papers (publication_date);
+
+-- paper_tags: the primary key (paper_id, tag_id) serves paper -> tags; this serves tag -> papers
+create index if not exists idx_paper_tags_tag_id on paper_tags (tag_id);
+
+create index if not exists idx_users_role_id on users (role_id);
+
+-- Element collections and join tables, keyed by their owner
+create index if not exists idx_academic_interests_user_id on academic_interests (user_id);
+create index if not exists idx_admin_access_systems_admin_id on admin_access_systems (admin_id);
+create index if not exists idx_admin_managed_departments_admin_id on admin_managed_departments (admin_id);
+create index if not exists idx_admin_owned_documents_admin_id on admin_owned_documents (admin_id);
+create index if not exists idx_admin_pending_reviews_admin_id on admin_pending_reviews (admin_id);
+create index if not exists idx_admin_published_docs_admin_id on admin_published_docs (admin_id);
+create index if not exists idx_admin_responsibilities_admin_id on admin_responsibilities (admin_id);
+create index if not exists idx_author_awards_author_id on author_awards (author_id);
+create index if not exists idx_author_publications_author_id on author_publications (author_id);
+create index if not exists idx_document_keywords_document_id on document_keywords (document_id);
+create index if not exists idx_joined_admin_managed_areas_admin_id on joined_admin_managed_areas (admin_id);
+create index if not exists idx_joined_admin_permissions_admin_id on joined_admin_permissions (admin_id);
+create index if not exists idx_joined_author_collaborators_author_id on joined_author_collaborators (author_id);
+create index if not exists idx_joined_author_publications_author_id on joined_author_publications (author_id);
+create index if not exists idx_joined_author_research_areas_author_id on joined_author_research_areas (author_id);
+create index if not exists idx_joined_employee_skills_employee_id on joined_employee_skills (employee_id);
+create index if not exists idx_joined_professor_courses_professor_id on joined_professor_courses (professor_id);
+create index if not exists idx_joined_professor_publications_professor_id on joined_professor_publications (professor_id);
+create index if not exists idx_joined_student_courses_student_id on joined_student_courses (student_id);
+create index if not exists idx_paper_coauthors_paper_id on paper_coauthors (paper_id);
+create index if not exists idx_paper_references_paper_id on paper_references (paper_id);
+create index if not exists idx_policy_approvers_policy_id on policy_approvers (policy_id);
+create index if not exists idx_policy_stakeholders_policy_id on policy_stakeholders (policy_id);
+create index if not exists idx_professor_courses_professor_id on professor_courses (professor_id);
+create index if not exists idx_professor_owned_documents_professor_id on professor_owned_documents (professor_id);
+create index if not exists idx_professor_publications_professor_id on professor_publications (professor_id);
+create index if not exists idx_professor_reading_history_professor_id on professor_reading_history (professor_id);
+create index if not exists idx_single_table_admin_managed_areas_person_id on single_table_admin_managed_areas (person_id);
+create index if not exists idx_single_table_admin_permissions_person_id on single_table_admin_permissions (person_id);
+create index if not exists idx_single_table_author_publications_person_id on single_table_author_publications (person_id);
+create index if not exists idx_single_table_author_research_areas_person_id on single_table_author_research_areas (person_id);
+create index if not exists idx_single_table_employee_skills_employee_id on single_table_employee_skills (employee_id);
+create index if not exists idx_single_table_professor_publications_professor_id on single_table_professor_publications (professor_id);
+create index if not exists idx_single_table_student_courses_student_id on single_table_student_courses (student_id);
+create index if not exists idx_student_courses_student_id on student_courses (student_id);
+create index if not exists idx_student_reading_history_student_id on student_reading_history (student_id);
+create index if not exists idx_table_per_class_admin_ip_whitelist_admin_id on table_per_class_admin_ip_whitelist (admin_id);
+create index if not exists idx_table_per_class_admin_managed_areas_admin_id on table_per_class_admin_managed_areas (admin_id);
+create index if not exists idx_table_per_class_admin_permissions_admin_id on table_per_class_admin_permissions (admin_id);
+create index if not exists idx_table_per_class_author_collaborators_author_id on table_per_class_author_collaborators (author_id);
+create index if not exists idx_table_per_class_author_journals_author_id on table_per_class_author_journals (author_id);
+create index if not exists idx_table_per_class_author_publications_author_id on table_per_class_author_publications (author_id);
+create index if not exists idx_table_per_class_author_research_areas_author_id on table_per_class_author_research_areas (author_id);
+create index if not exists idx_table_per_class_employee_certifications_employee_id on table_per_class_employee_certifications (employee_id);
+create index if not exists idx_table_per_class_employee_skills_employee_id on table_per_class_employee_skills (employee_id);
+create index if not exists idx_table_per_class_student_courses_student_id on table_per_class_student_courses (student_id);
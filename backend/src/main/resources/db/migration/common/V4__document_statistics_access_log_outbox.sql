@@ -0,0 +1,44 @@
+-- Objects mapped after the V1 baseline while ddl-auto=update still managed the schema: stored
+-- document statistics, the admin access log table and the transactional outbox. A database
+-- that ran one of those versions already has some of them, hence "if not exists" throughout.
+
+-- Stored content statistics (AbstractDocument); rows written before these columns existed are
+-- filled in by V5 (DocumentStatisticsBackfill), which reuses the entity's word counting
+alter table documents add column if not exists word_count integer;
+alter table documents add column if not exists reading_time_minutes integer;
+alter table documents add column if not exists content_summary varchar(203);
+
+create index if not exists idx_document_keywords_keyword on document_keywords (keyword, document_id);
+
+-- Append-only admin access log (AdminAccessLog), replacing the joined_admin_access_logs and
+-- table_per_class_admin_access_logs element collections, which are left in place unmapped
+create table if not exists admin_access_logs (
+    admin_id bigint not null,
+    id bigint generated by default as identity,
+    occurred_at timestamp(6) not null,
+    action varchar(255) not null,
+    admin_type varchar(255) not null,
+    primary key (id)
+);
+
+create index if not exists idx_admin_access_logs_admin on admin_access_logs (admin_type, admin_id, occurred_at);
+create index if not exists idx_admin_access_logs_occurred_at on admin_access_logs (occurred_at);
+
+-- Transactional outbox (OutboxEvent) and each consumer's delivery position
+create table if not exists outbox_events (
+    aggregate_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    event_type varchar(30) not null check (event_type in ('PAPER_CREATED','PAPER_PUBLISHED')),
+    payload TEXT,
+    primary key (id)
+);
+
+create index if not exists idx_outbox_events_created_at on outbox_events (created_at);
+
+create table if not exists outbox_consumer_offsets (
+    last_event_id bigint not null,
+    updated_at timestamp(6) not null,
+    consumer_name varchar(50) not null,
+    primary key (consumer_name)
+);
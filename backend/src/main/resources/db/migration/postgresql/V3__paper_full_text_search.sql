@@ -0,0 +1,9 @@
+-- Full-text search over papers (PostgresFullTextSearchStrategy): a stored generated tsvector over
+-- title (weight A), abstract (B) and content (C), and a GIN index on it. Not mapped on Paper.
+-- Until this migration the strategy ran the same statements at startup, hence "if not exists".
+alter table papers add column if not exists search_vector tsvector generated always as (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(abstract_text, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(content, '')), 'C')) stored;
+
+create index if not exists idx_papers_search_vector on papers using gin (search_vector);
@@ -1,7 +1,7 @@
 import { NgModule } from "@angular/core";
 import { BrowserModule } from "@angular/platform-browser";
 import { FormsModule } from "@angular/forms";
-import { HttpClientModule } from "@angular/common/http";
+import { HttpClientModule, HTTP_INTERCEPTORS } from "@angular/common/http";
 import { RouterModule, Routes } from "@angular/router";
 
 import { AppComponent } from "./app.component";
@@ -10,6 +10,7 @@ import { SignupComponent } from "./components/signup/signup.component";
 import { StudentDashboardComponent } from "./components/dashboard/student/student-dashboard.component";
 import { AuthorDashboardComponent } from "./components/dashboard/author/author-dashboard.component";
 import { CommitteeDashboardComponent } from "./components/dashboard/committee/committee-dashboard.component";
+import { AuthInterceptor } from "./services/auth.interceptor";
 
 const routes: Routes = [
   { path: "login", component: LoginComponent },
@@ -35,7 +36,9 @@ const routes: Routes = [
     HttpClientModule,
     RouterModule.forRoot(routes),
   ],
-  providers: [],
+  providers: [
+    { provide: HTTP_INTERCEPTORS, useClass: AuthInterceptor, multi: true },
+  ],
   bootstrap: [AppComponent],
 })
 export class AppModule {}
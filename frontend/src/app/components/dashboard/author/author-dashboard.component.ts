@@ -33,9 +33,9 @@ export class AuthorDashboardComponent implements OnInit {
       return;
     }
 
-    this.authService.getMyPapers(currentUser.username).subscribe({
-      next: (papers) => {
-        this.myPapers = papers;
+    this.authService.getAuthorDashboard(currentUser.username).subscribe({
+      next: (dashboard) => {
+        this.myPapers = dashboard.papers;
         this.loading = false;
       },
       error: (err) => {
@@ -68,7 +68,7 @@ export class AuthorDashboardComponent implements OnInit {
           .filter((tag) => tag),
       };
 
-      this.authService.createPaper(paperData, currentUser.username).subscribe({
+      this.authService.createPaper(paperData).subscribe({
         next: (response) => {
           alert(
             "Paper created successfully! This demonstrates One-to-Many relationship (Author → Papers)"
@@ -15,35 +15,31 @@ export class CommitteeDashboardComponent implements OnInit {
   constructor(private authService: AuthService) {}
 
   ngOnInit(): void {
-    this.loadPendingPapers();
-    this.loadAllPapers();
+    this.loadDashboard();
   }
 
-  loadPendingPapers() {
+  // Pending and all papers come from a single dashboard request
+  loadDashboard() {
+    const currentUser = this.authService.getCurrentUser();
+    if (!currentUser) {
+      console.error("No user logged in");
+      return;
+    }
+
     this.loading = true;
-    this.authService.getPendingPapers().subscribe({
-      next: (papers) => {
-        this.pendingPapers = papers;
+    this.authService.getCommitteeDashboard(currentUser.username).subscribe({
+      next: (dashboard) => {
+        this.pendingPapers = dashboard.pending;
+        this.allPapers = dashboard.papers;
         this.loading = false;
       },
       error: (err) => {
-        console.error("Error loading pending papers:", err);
+        console.error("Error loading dashboard:", err);
         this.loading = false;
       },
     });
   }
 
-  loadAllPapers() {
-    this.authService.getAllPapers().subscribe({
-      next: (papers) => {
-        this.allPapers = papers;
-      },
-      error: (err) => {
-        console.error("Error loading papers:", err);
-      },
-    });
-  }
-
   publishPaper(paperId: number) {
     if (
       confirm(
@@ -56,13 +52,12 @@ export class CommitteeDashboardComponent implements OnInit {
         return;
       }
 
-      this.authService.publishPaper(paperId, currentUser.username).subscribe({
+      this.authService.publishPaper(paperId).subscribe({
         next: (response) => {
           alert(
             "Paper published successfully! This shows Committee can publish multiple papers (One-to-Many)"
           );
-          this.loadPendingPapers();
-          this.loadAllPapers();
+          this.loadDashboard();
         },
         error: (err) => {
           alert("Error publishing paper: " + err.error.message);
@@ -20,10 +20,10 @@ export class StudentDashboardComponent implements OnInit {
 
   loadAllPapers() {
     this.loading = true;
-    this.authService.getAllPapers().subscribe({
-      next: (papers) => {
-        this.papers = papers;
-        this.searchResults = papers;
+    this.authService.getStudentDashboard().subscribe({
+      next: (dashboard) => {
+        this.papers = dashboard.papers;
+        this.searchResults = dashboard.papers;
         this.loading = false;
       },
       error: (err) => {
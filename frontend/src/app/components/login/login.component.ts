@@ -46,6 +46,7 @@ export class LoginComponent {
           username: data.username,
           email: data.email,
           role: data.role,
+          token: data.accessToken,
         };
 
         this.authService.setCurrentUser(user);
@@ -0,0 +1,38 @@
+import { Injectable } from "@angular/core";
+import {
+  HttpErrorResponse,
+  HttpEvent,
+  HttpHandler,
+  HttpInterceptor,
+  HttpRequest,
+} from "@angular/common/http";
+import { Router } from "@angular/router";
+import { Observable, throwError } from "rxjs";
+import { catchError } from "rxjs/operators";
+import { AuthService } from "./auth.service";
+
+// Sessions live in server memory, so a backend restart rejects every saved token with 401.
+// Only requests that sent a token end the local session; a failed login stays on its form.
+@Injectable()
+export class AuthInterceptor implements HttpInterceptor {
+  constructor(private authService: AuthService, private router: Router) {}
+
+  intercept(
+    req: HttpRequest<any>,
+    next: HttpHandler
+  ): Observable<HttpEvent<any>> {
+    return next.handle(req).pipe(
+      catchError((err) => {
+        if (
+          err instanceof HttpErrorResponse &&
+          err.status === 401 &&
+          req.headers.has("Authorization")
+        ) {
+          this.authService.clearSession();
+          this.router.navigate(["/login"]);
+        }
+        return throwError(() => err);
+      })
+    );
+  }
+}
@@ -1,6 +1,7 @@
 import { Injectable } from "@angular/core";
 import { HttpClient, HttpHeaders } from "@angular/common/http";
 import { Observable, BehaviorSubject } from "rxjs";
+import { map } from "rxjs/operators";
 
 const httpOptions = {
   headers: new HttpHeaders({ "Content-Type": "application/json" }),
@@ -11,6 +12,7 @@ export interface User {
   username: string;
   email: string;
   role?: string;
+  token?: string;
 }
 
 export interface Paper {
@@ -26,12 +28,65 @@ export interface Paper {
   tags?: string[];
 }
 
+// Paper as returned by the /api/dashboard endpoints
+export interface PaperSummary {
+  id: number;
+  title: string;
+  abstractText: string;
+  contentPreview: string;
+  authorId: number | null;
+  authorName: string;
+  publishedBy: string | null;
+  publicationDate: string | null;
+  createdAt: string;
+  tags: string[];
+}
+
+export interface AuthorDashboard {
+  username: string;
+  totalPapers: number;
+  publishedPapers: number;
+  draftPapers: number;
+  papers: Paper[];
+}
+
+export interface CommitteeDashboard {
+  username: string;
+  totalPapers: number;
+  pendingPapers: number;
+  publishedByMe: number;
+  pending: Paper[];
+  papers: Paper[];
+}
+
+export interface StudentDashboard {
+  totalPapers: number;
+  publishedPapers: number;
+  papers: Paper[];
+}
+
+function toPaper(summary: PaperSummary): Paper {
+  return {
+    id: summary.id,
+    title: summary.title,
+    abstract: summary.abstractText,
+    content: summary.contentPreview,
+    authorId: summary.authorId ?? undefined,
+    authorName: summary.authorName,
+    publishedBy: summary.publishedBy || undefined,
+    published: summary.publicationDate !== null,
+    createdAt: summary.createdAt,
+    tags: summary.tags,
+  };
+}
+
 @Injectable({
   providedIn: "root",
 })
 export class AuthService {
   private AUTH_API = "http://localhost:8080/api/auth/";
   private PAPER_API = "http://localhost:8080/api/papers/";
+  private DASHBOARD_API = "http://localhost:8080/api/dashboard/";
 
   private currentUserSubject = new BehaviorSubject<User | null>(null);
   public currentUser$ = this.currentUserSubject.asObservable();
@@ -107,10 +162,36 @@ export class AuthService {
   }
 
   logout() {
+    const token = this.getCurrentUser()?.token;
+    if (token) {
+      // Revoke the server-side session; the local logout does not wait for it
+      this.http
+        .post(`${this.AUTH_API}logout`, {}, this.authorizedOptions())
+        .subscribe({ error: () => {} });
+    }
+    this.clearSession();
+  }
+
+  // Forget the saved user without calling the server, e.g. once it has rejected the token
+  clearSession() {
     localStorage.removeItem("currentUser");
     this.currentUserSubject.next(null);
   }
 
+  // Sends the session token so the server can authorize without looking the user up
+  private authorizedOptions() {
+    const token = this.getCurrentUser()?.token;
+    if (!token) {
+      return httpOptions;
+    }
+    return {
+      headers: new HttpHeaders({
+        "Content-Type": "application/json",
+        Authorization: `Bearer ${token}`,
+      }),
+    };
+  }
+
   isLoggedIn(): boolean {
     return this.getCurrentUser() !== null;
   }
@@ -132,11 +213,11 @@ export class AuthService {
     );
   }
 
-  createPaper(paper: any, authorUsername: string): Observable<any> {
+  createPaper(paper: any): Observable<any> {
     return this.http.post(
-      `${this.PAPER_API}create?authorUsername=${authorUsername}`,
+      `${this.PAPER_API}create`,
       paper,
-      httpOptions
+      this.authorizedOptions()
     );
   }
 
@@ -147,11 +228,11 @@ export class AuthService {
     );
   }
 
-  publishPaper(paperId: number, committeeUsername: string): Observable<any> {
+  publishPaper(paperId: number): Observable<any> {
     return this.http.post(
-      `${this.PAPER_API}publish/${paperId}?committeeUsername=${committeeUsername}`,
+      `${this.PAPER_API}publish/${paperId}`,
       {},
-      httpOptions
+      this.authorizedOptions()
     );
   }
 
@@ -162,4 +243,29 @@ export class AuthService {
   getPublishedPapers(): Observable<Paper[]> {
     return this.http.get<Paper[]>(`${this.PAPER_API}published`, httpOptions);
   }
+
+  // Dashboard methods: one request per dashboard load
+  getAuthorDashboard(username: string): Observable<AuthorDashboard> {
+    return this.http
+      .get<any>(`${this.DASHBOARD_API}author/${username}`, httpOptions)
+      .pipe(map((d) => ({ ...d, papers: d.papers.map(toPaper) })));
+  }
+
+  getCommitteeDashboard(username: string): Observable<CommitteeDashboard> {
+    return this.http
+      .get<any>(`${this.DASHBOARD_API}committee/${username}`, httpOptions)
+      .pipe(
+        map((d) => ({
+          ...d,
+          pending: d.pending.map(toPaper),
+          papers: d.papers.map(toPaper),
+        }))
+      );
+  }
+
+  getStudentDashboard(): Observable<StudentDashboard> {
+    return this.http
+      .get<any>(`${this.DASHBOARD_API}student`, httpOptions)
+      .pipe(map((d) => ({ ...d, papers: d.papers.map(toPaper) })));
+  }
 }